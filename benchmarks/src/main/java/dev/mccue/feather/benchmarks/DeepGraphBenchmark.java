@@ -0,0 +1,131 @@
+package dev.mccue.feather.benchmarks;
+
+import dev.mccue.feather.DependencyInjector;
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Provisioning a 16 level deep chain of unscoped classes, each also depending on an unscoped leaf,
+ * through a cached {@link Provider}: 32 constructor calls per invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeepGraphBenchmark {
+    private Provider<Level0> root;
+
+    @Setup
+    public void setup() {
+        root = DependencyInjector.builder().build().provider(Level0.class);
+    }
+
+    @Benchmark
+    public Level0 deep() {
+        return root.get();
+    }
+
+    public static class Leaf {
+    }
+
+    public static class Level0 {
+        @Inject
+        public Level0(Level1 next, Leaf leaf) {
+        }
+    }
+
+    public static class Level1 {
+        @Inject
+        public Level1(Level2 next, Leaf leaf) {
+        }
+    }
+
+    public static class Level2 {
+        @Inject
+        public Level2(Level3 next, Leaf leaf) {
+        }
+    }
+
+    public static class Level3 {
+        @Inject
+        public Level3(Level4 next, Leaf leaf) {
+        }
+    }
+
+    public static class Level4 {
+        @Inject
+        public Level4(Level5 next, Leaf leaf) {
+        }
+    }
+
+    public static class Level5 {
+        @Inject
+        public Level5(Level6 next, Leaf leaf) {
+        }
+    }
+
+    public static class Level6 {
+        @Inject
+        public Level6(Level7 next, Leaf leaf) {
+        }
+    }
+
+    public static class Level7 {
+        @Inject
+        public Level7(Level8 next, Leaf leaf) {
+        }
+    }
+
+    public static class Level8 {
+        @Inject
+        public Level8(Level9 next, Leaf leaf) {
+        }
+    }
+
+    public static class Level9 {
+        @Inject
+        public Level9(Level10 next, Leaf leaf) {
+        }
+    }
+
+    public static class Level10 {
+        @Inject
+        public Level10(Level11 next, Leaf leaf) {
+        }
+    }
+
+    public static class Level11 {
+        @Inject
+        public Level11(Level12 next, Leaf leaf) {
+        }
+    }
+
+    public static class Level12 {
+        @Inject
+        public Level12(Level13 next, Leaf leaf) {
+        }
+    }
+
+    public static class Level13 {
+        @Inject
+        public Level13(Level14 next, Leaf leaf) {
+        }
+    }
+
+    public static class Level14 {
+        @Inject
+        public Level14(Level15 next, Leaf leaf) {
+        }
+    }
+
+    public static class Level15 {
+        @Inject
+        public Level15(Leaf leaf) {
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package dev.mccue.feather.benchmarks;
+
+import dev.mccue.feather.DependencyInjector;
+import jakarta.inject.Inject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code injectFields} on an object with 16 {@code @Inject} fields of unscoped types, and on batches of
+ * {@value #BATCH} such objects, one at a time or all at once.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InjectFieldsBenchmark {
+    private static final int BATCH = 1000;
+    private DependencyInjector injector;
+
+    @Setup
+    public void setup() {
+        injector = DependencyInjector.builder().build();
+    }
+
+    @Benchmark
+    public Target injectFields() {
+        Target target = new Target();
+        injector.injectFields(target);
+        return target;
+    }
+
+    @Benchmark
+    public Target[] injectFieldsLoop() {
+        Target[] targets = targets();
+        for (Target target : targets) {
+            injector.injectFields(target);
+        }
+        return targets;
+    }
+
+    @Benchmark
+    public Target[] injectFieldsBatch() {
+        Target[] targets = targets();
+        injector.injectFieldsAll(targets);
+        return targets;
+    }
+
+    private static Target[] targets() {
+        Target[] targets = new Target[BATCH];
+        for (int i = 0; i < targets.length; ++i) {
+            targets[i] = new Target();
+        }
+        return targets;
+    }
+
+    public static class Target {
+        @Inject
+        F0 f0;
+        @Inject
+        F1 f1;
+        @Inject
+        F2 f2;
+        @Inject
+        F3 f3;
+        @Inject
+        F4 f4;
+        @Inject
+        F5 f5;
+        @Inject
+        F6 f6;
+        @Inject
+        F7 f7;
+        @Inject
+        F8 f8;
+        @Inject
+        F9 f9;
+        @Inject
+        F10 f10;
+        @Inject
+        F11 f11;
+        @Inject
+        F12 f12;
+        @Inject
+        F13 f13;
+        @Inject
+        F14 f14;
+        @Inject
+        F15 f15;
+    }
+
+    public static class F0 {
+    }
+
+    public static class F1 {
+    }
+
+    public static class F2 {
+    }
+
+    public static class F3 {
+    }
+
+    public static class F4 {
+    }
+
+    public static class F5 {
+    }
+
+    public static class F6 {
+    }
+
+    public static class F7 {
+    }
+
+    public static class F8 {
+    }
+
+    public static class F9 {
+    }
+
+    public static class F10 {
+    }
+
+    public static class F11 {
+    }
+
+    public static class F12 {
+    }
+
+    public static class F13 {
+    }
+
+    public static class F14 {
+    }
+
+    public static class F15 {
+    }
+}
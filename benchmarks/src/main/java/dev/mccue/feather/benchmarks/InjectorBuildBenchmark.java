@@ -0,0 +1,32 @@
+package dev.mccue.feather.benchmarks;
+
+import dev.mccue.feather.Feather;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building an injector from 1, 8 and 32 modules.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InjectorBuildBenchmark {
+    @Param({"1", "8", "32"})
+    public int modules;
+
+    private Object[] instances;
+
+    @Setup
+    public void setup() {
+        instances = Modules.first(modules);
+    }
+
+    @Benchmark
+    public Feather with() {
+        return Feather.with(instances);
+    }
+}
@@ -0,0 +1,72 @@
+package dev.mccue.feather.benchmarks;
+
+import dev.mccue.feather.DependencyInjector;
+import dev.mccue.feather.Key;
+import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@code instance(Class)}, {@code instance(Key)} and a cached {@link Provider},
+ * for unscoped and singleton bindings.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LookupBenchmark {
+    private static final Key<Unscoped> UNSCOPED = Key.of(Unscoped.class);
+    private static final Key<Shared> SHARED = Key.of(Shared.class);
+
+    private DependencyInjector injector;
+    private Provider<Unscoped> unscoped;
+    private Provider<Shared> shared;
+
+    @Setup
+    public void setup() {
+        injector = DependencyInjector.builder().build();
+        unscoped = injector.provider(UNSCOPED);
+        shared = injector.provider(SHARED);
+    }
+
+    @Benchmark
+    public Unscoped unscopedByClass() {
+        return injector.instance(Unscoped.class);
+    }
+
+    @Benchmark
+    public Unscoped unscopedByKey() {
+        return injector.instance(UNSCOPED);
+    }
+
+    @Benchmark
+    public Unscoped unscopedByProvider() {
+        return unscoped.get();
+    }
+
+    @Benchmark
+    public Shared singletonByClass() {
+        return injector.instance(Shared.class);
+    }
+
+    @Benchmark
+    public Shared singletonByKey() {
+        return injector.instance(SHARED);
+    }
+
+    @Benchmark
+    public Shared singletonByProvider() {
+        return shared.get();
+    }
+
+    public static class Unscoped {
+    }
+
+    @Singleton
+    public static class Shared {
+    }
+}
@@ -0,0 +1,1654 @@
+package dev.mccue.feather.benchmarks;
+
+import dev.mccue.feather.Provides;
+import jakarta.inject.Named;
+
+import java.util.Arrays;
+
+/**
+ * Module fixtures for {@link InjectorBuildBenchmark}: 32 distinct module classes with 8 chained
+ * {@code @Provides} methods each, so building an injector exercises module scanning and parameter wiring.
+ */
+final class Modules {
+    private Modules() {
+    }
+
+    static Object[] first(int count) {
+        return Arrays.copyOf(ALL, count);
+    }
+
+    private static final Object[] ALL = {
+            new M0(),
+            new M1(),
+            new M2(),
+            new M3(),
+            new M4(),
+            new M5(),
+            new M6(),
+            new M7(),
+            new M8(),
+            new M9(),
+            new M10(),
+            new M11(),
+            new M12(),
+            new M13(),
+            new M14(),
+            new M15(),
+            new M16(),
+            new M17(),
+            new M18(),
+            new M19(),
+            new M20(),
+            new M21(),
+            new M22(),
+            new M23(),
+            new M24(),
+            new M25(),
+            new M26(),
+            new M27(),
+            new M28(),
+            new M29(),
+            new M30(),
+            new M31()
+    };
+
+    public static class M0 {
+        @Provides
+        @Named("m0p0")
+        String p0() {
+            return "m0p0";
+        }
+
+        @Provides
+        @Named("m0p1")
+        String p1(@Named("m0p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m0p2")
+        String p2(@Named("m0p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m0p3")
+        String p3(@Named("m0p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m0p4")
+        String p4(@Named("m0p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m0p5")
+        String p5(@Named("m0p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m0p6")
+        String p6(@Named("m0p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m0p7")
+        String p7(@Named("m0p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M1 {
+        @Provides
+        @Named("m1p0")
+        String p0() {
+            return "m1p0";
+        }
+
+        @Provides
+        @Named("m1p1")
+        String p1(@Named("m1p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m1p2")
+        String p2(@Named("m1p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m1p3")
+        String p3(@Named("m1p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m1p4")
+        String p4(@Named("m1p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m1p5")
+        String p5(@Named("m1p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m1p6")
+        String p6(@Named("m1p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m1p7")
+        String p7(@Named("m1p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M2 {
+        @Provides
+        @Named("m2p0")
+        String p0() {
+            return "m2p0";
+        }
+
+        @Provides
+        @Named("m2p1")
+        String p1(@Named("m2p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m2p2")
+        String p2(@Named("m2p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m2p3")
+        String p3(@Named("m2p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m2p4")
+        String p4(@Named("m2p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m2p5")
+        String p5(@Named("m2p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m2p6")
+        String p6(@Named("m2p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m2p7")
+        String p7(@Named("m2p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M3 {
+        @Provides
+        @Named("m3p0")
+        String p0() {
+            return "m3p0";
+        }
+
+        @Provides
+        @Named("m3p1")
+        String p1(@Named("m3p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m3p2")
+        String p2(@Named("m3p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m3p3")
+        String p3(@Named("m3p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m3p4")
+        String p4(@Named("m3p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m3p5")
+        String p5(@Named("m3p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m3p6")
+        String p6(@Named("m3p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m3p7")
+        String p7(@Named("m3p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M4 {
+        @Provides
+        @Named("m4p0")
+        String p0() {
+            return "m4p0";
+        }
+
+        @Provides
+        @Named("m4p1")
+        String p1(@Named("m4p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m4p2")
+        String p2(@Named("m4p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m4p3")
+        String p3(@Named("m4p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m4p4")
+        String p4(@Named("m4p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m4p5")
+        String p5(@Named("m4p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m4p6")
+        String p6(@Named("m4p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m4p7")
+        String p7(@Named("m4p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M5 {
+        @Provides
+        @Named("m5p0")
+        String p0() {
+            return "m5p0";
+        }
+
+        @Provides
+        @Named("m5p1")
+        String p1(@Named("m5p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m5p2")
+        String p2(@Named("m5p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m5p3")
+        String p3(@Named("m5p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m5p4")
+        String p4(@Named("m5p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m5p5")
+        String p5(@Named("m5p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m5p6")
+        String p6(@Named("m5p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m5p7")
+        String p7(@Named("m5p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M6 {
+        @Provides
+        @Named("m6p0")
+        String p0() {
+            return "m6p0";
+        }
+
+        @Provides
+        @Named("m6p1")
+        String p1(@Named("m6p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m6p2")
+        String p2(@Named("m6p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m6p3")
+        String p3(@Named("m6p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m6p4")
+        String p4(@Named("m6p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m6p5")
+        String p5(@Named("m6p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m6p6")
+        String p6(@Named("m6p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m6p7")
+        String p7(@Named("m6p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M7 {
+        @Provides
+        @Named("m7p0")
+        String p0() {
+            return "m7p0";
+        }
+
+        @Provides
+        @Named("m7p1")
+        String p1(@Named("m7p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m7p2")
+        String p2(@Named("m7p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m7p3")
+        String p3(@Named("m7p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m7p4")
+        String p4(@Named("m7p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m7p5")
+        String p5(@Named("m7p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m7p6")
+        String p6(@Named("m7p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m7p7")
+        String p7(@Named("m7p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M8 {
+        @Provides
+        @Named("m8p0")
+        String p0() {
+            return "m8p0";
+        }
+
+        @Provides
+        @Named("m8p1")
+        String p1(@Named("m8p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m8p2")
+        String p2(@Named("m8p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m8p3")
+        String p3(@Named("m8p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m8p4")
+        String p4(@Named("m8p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m8p5")
+        String p5(@Named("m8p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m8p6")
+        String p6(@Named("m8p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m8p7")
+        String p7(@Named("m8p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M9 {
+        @Provides
+        @Named("m9p0")
+        String p0() {
+            return "m9p0";
+        }
+
+        @Provides
+        @Named("m9p1")
+        String p1(@Named("m9p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m9p2")
+        String p2(@Named("m9p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m9p3")
+        String p3(@Named("m9p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m9p4")
+        String p4(@Named("m9p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m9p5")
+        String p5(@Named("m9p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m9p6")
+        String p6(@Named("m9p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m9p7")
+        String p7(@Named("m9p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M10 {
+        @Provides
+        @Named("m10p0")
+        String p0() {
+            return "m10p0";
+        }
+
+        @Provides
+        @Named("m10p1")
+        String p1(@Named("m10p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m10p2")
+        String p2(@Named("m10p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m10p3")
+        String p3(@Named("m10p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m10p4")
+        String p4(@Named("m10p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m10p5")
+        String p5(@Named("m10p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m10p6")
+        String p6(@Named("m10p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m10p7")
+        String p7(@Named("m10p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M11 {
+        @Provides
+        @Named("m11p0")
+        String p0() {
+            return "m11p0";
+        }
+
+        @Provides
+        @Named("m11p1")
+        String p1(@Named("m11p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m11p2")
+        String p2(@Named("m11p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m11p3")
+        String p3(@Named("m11p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m11p4")
+        String p4(@Named("m11p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m11p5")
+        String p5(@Named("m11p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m11p6")
+        String p6(@Named("m11p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m11p7")
+        String p7(@Named("m11p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M12 {
+        @Provides
+        @Named("m12p0")
+        String p0() {
+            return "m12p0";
+        }
+
+        @Provides
+        @Named("m12p1")
+        String p1(@Named("m12p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m12p2")
+        String p2(@Named("m12p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m12p3")
+        String p3(@Named("m12p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m12p4")
+        String p4(@Named("m12p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m12p5")
+        String p5(@Named("m12p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m12p6")
+        String p6(@Named("m12p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m12p7")
+        String p7(@Named("m12p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M13 {
+        @Provides
+        @Named("m13p0")
+        String p0() {
+            return "m13p0";
+        }
+
+        @Provides
+        @Named("m13p1")
+        String p1(@Named("m13p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m13p2")
+        String p2(@Named("m13p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m13p3")
+        String p3(@Named("m13p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m13p4")
+        String p4(@Named("m13p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m13p5")
+        String p5(@Named("m13p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m13p6")
+        String p6(@Named("m13p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m13p7")
+        String p7(@Named("m13p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M14 {
+        @Provides
+        @Named("m14p0")
+        String p0() {
+            return "m14p0";
+        }
+
+        @Provides
+        @Named("m14p1")
+        String p1(@Named("m14p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m14p2")
+        String p2(@Named("m14p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m14p3")
+        String p3(@Named("m14p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m14p4")
+        String p4(@Named("m14p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m14p5")
+        String p5(@Named("m14p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m14p6")
+        String p6(@Named("m14p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m14p7")
+        String p7(@Named("m14p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M15 {
+        @Provides
+        @Named("m15p0")
+        String p0() {
+            return "m15p0";
+        }
+
+        @Provides
+        @Named("m15p1")
+        String p1(@Named("m15p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m15p2")
+        String p2(@Named("m15p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m15p3")
+        String p3(@Named("m15p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m15p4")
+        String p4(@Named("m15p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m15p5")
+        String p5(@Named("m15p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m15p6")
+        String p6(@Named("m15p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m15p7")
+        String p7(@Named("m15p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M16 {
+        @Provides
+        @Named("m16p0")
+        String p0() {
+            return "m16p0";
+        }
+
+        @Provides
+        @Named("m16p1")
+        String p1(@Named("m16p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m16p2")
+        String p2(@Named("m16p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m16p3")
+        String p3(@Named("m16p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m16p4")
+        String p4(@Named("m16p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m16p5")
+        String p5(@Named("m16p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m16p6")
+        String p6(@Named("m16p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m16p7")
+        String p7(@Named("m16p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M17 {
+        @Provides
+        @Named("m17p0")
+        String p0() {
+            return "m17p0";
+        }
+
+        @Provides
+        @Named("m17p1")
+        String p1(@Named("m17p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m17p2")
+        String p2(@Named("m17p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m17p3")
+        String p3(@Named("m17p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m17p4")
+        String p4(@Named("m17p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m17p5")
+        String p5(@Named("m17p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m17p6")
+        String p6(@Named("m17p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m17p7")
+        String p7(@Named("m17p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M18 {
+        @Provides
+        @Named("m18p0")
+        String p0() {
+            return "m18p0";
+        }
+
+        @Provides
+        @Named("m18p1")
+        String p1(@Named("m18p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m18p2")
+        String p2(@Named("m18p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m18p3")
+        String p3(@Named("m18p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m18p4")
+        String p4(@Named("m18p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m18p5")
+        String p5(@Named("m18p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m18p6")
+        String p6(@Named("m18p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m18p7")
+        String p7(@Named("m18p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M19 {
+        @Provides
+        @Named("m19p0")
+        String p0() {
+            return "m19p0";
+        }
+
+        @Provides
+        @Named("m19p1")
+        String p1(@Named("m19p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m19p2")
+        String p2(@Named("m19p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m19p3")
+        String p3(@Named("m19p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m19p4")
+        String p4(@Named("m19p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m19p5")
+        String p5(@Named("m19p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m19p6")
+        String p6(@Named("m19p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m19p7")
+        String p7(@Named("m19p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M20 {
+        @Provides
+        @Named("m20p0")
+        String p0() {
+            return "m20p0";
+        }
+
+        @Provides
+        @Named("m20p1")
+        String p1(@Named("m20p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m20p2")
+        String p2(@Named("m20p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m20p3")
+        String p3(@Named("m20p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m20p4")
+        String p4(@Named("m20p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m20p5")
+        String p5(@Named("m20p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m20p6")
+        String p6(@Named("m20p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m20p7")
+        String p7(@Named("m20p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M21 {
+        @Provides
+        @Named("m21p0")
+        String p0() {
+            return "m21p0";
+        }
+
+        @Provides
+        @Named("m21p1")
+        String p1(@Named("m21p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m21p2")
+        String p2(@Named("m21p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m21p3")
+        String p3(@Named("m21p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m21p4")
+        String p4(@Named("m21p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m21p5")
+        String p5(@Named("m21p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m21p6")
+        String p6(@Named("m21p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m21p7")
+        String p7(@Named("m21p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M22 {
+        @Provides
+        @Named("m22p0")
+        String p0() {
+            return "m22p0";
+        }
+
+        @Provides
+        @Named("m22p1")
+        String p1(@Named("m22p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m22p2")
+        String p2(@Named("m22p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m22p3")
+        String p3(@Named("m22p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m22p4")
+        String p4(@Named("m22p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m22p5")
+        String p5(@Named("m22p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m22p6")
+        String p6(@Named("m22p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m22p7")
+        String p7(@Named("m22p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M23 {
+        @Provides
+        @Named("m23p0")
+        String p0() {
+            return "m23p0";
+        }
+
+        @Provides
+        @Named("m23p1")
+        String p1(@Named("m23p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m23p2")
+        String p2(@Named("m23p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m23p3")
+        String p3(@Named("m23p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m23p4")
+        String p4(@Named("m23p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m23p5")
+        String p5(@Named("m23p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m23p6")
+        String p6(@Named("m23p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m23p7")
+        String p7(@Named("m23p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M24 {
+        @Provides
+        @Named("m24p0")
+        String p0() {
+            return "m24p0";
+        }
+
+        @Provides
+        @Named("m24p1")
+        String p1(@Named("m24p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m24p2")
+        String p2(@Named("m24p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m24p3")
+        String p3(@Named("m24p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m24p4")
+        String p4(@Named("m24p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m24p5")
+        String p5(@Named("m24p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m24p6")
+        String p6(@Named("m24p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m24p7")
+        String p7(@Named("m24p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M25 {
+        @Provides
+        @Named("m25p0")
+        String p0() {
+            return "m25p0";
+        }
+
+        @Provides
+        @Named("m25p1")
+        String p1(@Named("m25p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m25p2")
+        String p2(@Named("m25p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m25p3")
+        String p3(@Named("m25p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m25p4")
+        String p4(@Named("m25p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m25p5")
+        String p5(@Named("m25p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m25p6")
+        String p6(@Named("m25p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m25p7")
+        String p7(@Named("m25p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M26 {
+        @Provides
+        @Named("m26p0")
+        String p0() {
+            return "m26p0";
+        }
+
+        @Provides
+        @Named("m26p1")
+        String p1(@Named("m26p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m26p2")
+        String p2(@Named("m26p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m26p3")
+        String p3(@Named("m26p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m26p4")
+        String p4(@Named("m26p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m26p5")
+        String p5(@Named("m26p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m26p6")
+        String p6(@Named("m26p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m26p7")
+        String p7(@Named("m26p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M27 {
+        @Provides
+        @Named("m27p0")
+        String p0() {
+            return "m27p0";
+        }
+
+        @Provides
+        @Named("m27p1")
+        String p1(@Named("m27p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m27p2")
+        String p2(@Named("m27p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m27p3")
+        String p3(@Named("m27p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m27p4")
+        String p4(@Named("m27p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m27p5")
+        String p5(@Named("m27p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m27p6")
+        String p6(@Named("m27p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m27p7")
+        String p7(@Named("m27p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M28 {
+        @Provides
+        @Named("m28p0")
+        String p0() {
+            return "m28p0";
+        }
+
+        @Provides
+        @Named("m28p1")
+        String p1(@Named("m28p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m28p2")
+        String p2(@Named("m28p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m28p3")
+        String p3(@Named("m28p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m28p4")
+        String p4(@Named("m28p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m28p5")
+        String p5(@Named("m28p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m28p6")
+        String p6(@Named("m28p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m28p7")
+        String p7(@Named("m28p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M29 {
+        @Provides
+        @Named("m29p0")
+        String p0() {
+            return "m29p0";
+        }
+
+        @Provides
+        @Named("m29p1")
+        String p1(@Named("m29p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m29p2")
+        String p2(@Named("m29p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m29p3")
+        String p3(@Named("m29p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m29p4")
+        String p4(@Named("m29p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m29p5")
+        String p5(@Named("m29p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m29p6")
+        String p6(@Named("m29p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m29p7")
+        String p7(@Named("m29p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M30 {
+        @Provides
+        @Named("m30p0")
+        String p0() {
+            return "m30p0";
+        }
+
+        @Provides
+        @Named("m30p1")
+        String p1(@Named("m30p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m30p2")
+        String p2(@Named("m30p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m30p3")
+        String p3(@Named("m30p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m30p4")
+        String p4(@Named("m30p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m30p5")
+        String p5(@Named("m30p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m30p6")
+        String p6(@Named("m30p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m30p7")
+        String p7(@Named("m30p6") String previous) {
+            return previous;
+        }
+    }
+
+    public static class M31 {
+        @Provides
+        @Named("m31p0")
+        String p0() {
+            return "m31p0";
+        }
+
+        @Provides
+        @Named("m31p1")
+        String p1(@Named("m31p0") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m31p2")
+        String p2(@Named("m31p1") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m31p3")
+        String p3(@Named("m31p2") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m31p4")
+        String p4(@Named("m31p3") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m31p5")
+        String p5(@Named("m31p4") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m31p6")
+        String p6(@Named("m31p5") String previous) {
+            return previous;
+        }
+
+        @Provides
+        @Named("m31p7")
+        String p7(@Named("m31p6") String previous) {
+            return previous;
+        }
+    }
+}
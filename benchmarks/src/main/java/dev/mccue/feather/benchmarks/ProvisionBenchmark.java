@@ -0,0 +1,97 @@
+package dev.mccue.feather.benchmarks;
+
+import dev.mccue.feather.DependencyInjector;
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-provision cost of unscoped bindings with 0, 1, 4 and 5 constructor arguments,
+ * obtained through a cached {@link Provider}. The arguments are singletons, so each
+ * invocation measures a single constructor call plus parameter lookups.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProvisionBenchmark {
+    private Provider<NoArgs> noArgs;
+    private Provider<OneArg> oneArg;
+    private Provider<FourArgs> fourArgs;
+    private Provider<FiveArgs> fiveArgs;
+
+    @Setup
+    public void setup() {
+        DependencyInjector injector = DependencyInjector.builder().build();
+        noArgs = injector.provider(NoArgs.class);
+        oneArg = injector.provider(OneArg.class);
+        fourArgs = injector.provider(FourArgs.class);
+        fiveArgs = injector.provider(FiveArgs.class);
+    }
+
+    @Benchmark
+    public NoArgs noArgs() {
+        return noArgs.get();
+    }
+
+    @Benchmark
+    public OneArg oneArg() {
+        return oneArg.get();
+    }
+
+    @Benchmark
+    public FourArgs fourArgs() {
+        return fourArgs.get();
+    }
+
+    @Benchmark
+    public FiveArgs fiveArgs() {
+        return fiveArgs.get();
+    }
+
+    public static class NoArgs {
+    }
+
+    public static class OneArg {
+        @Inject
+        public OneArg(D1 d1) {
+        }
+    }
+
+    public static class FourArgs {
+        @Inject
+        public FourArgs(D1 d1, D2 d2, D3 d3, D4 d4) {
+        }
+    }
+
+    public static class FiveArgs {
+        @Inject
+        public FiveArgs(D1 d1, D2 d2, D3 d3, D4 d4, D5 d5) {
+        }
+    }
+
+    @Singleton
+    public static class D1 {
+    }
+
+    @Singleton
+    public static class D2 {
+    }
+
+    @Singleton
+    public static class D3 {
+    }
+
+    @Singleton
+    public static class D4 {
+    }
+
+    @Singleton
+    public static class D5 {
+    }
+}
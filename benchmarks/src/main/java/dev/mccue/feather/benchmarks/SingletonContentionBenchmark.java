@@ -0,0 +1,48 @@
+package dev.mccue.feather.benchmarks;
+
+import dev.mccue.feather.DependencyInjector;
+import jakarta.inject.Singleton;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot reads of an already constructed singleton from 1, 8 and 64 threads sharing one injector.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SingletonContentionBenchmark {
+    private DependencyInjector injector;
+
+    @Setup
+    public void setup() {
+        injector = DependencyInjector.builder().build();
+        injector.instance(Shared.class);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Shared threads1() {
+        return injector.instance(Shared.class);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Shared threads8() {
+        return injector.instance(Shared.class);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Shared threads64() {
+        return injector.instance(Shared.class);
+    }
+
+    @Singleton
+    public static class Shared {
+    }
+}
@@ -0,0 +1,637 @@
+package dev.mccue.feather.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Generates a {@code Feather<Module>} injector for every class declaring {@code @Provides} methods.
+ * The generated injector registers the module's provider methods, and every {@code @Inject} or no-arg
+ * constructible class reachable from them, as plain method and constructor calls on
+ * {@code DependencyInjector.Builder}, declaring the keys they depend on, so neither module scanning nor
+ * reflective invocation happens at runtime, and dependencies are looked up once rather than per provision.
+ * Types the processor can't see or can't access from the module's package are left to Feather's
+ * reflective just-in-time bindings. Modules a generated injector can't express, such as those contributing to
+ * multibindings or with provider methods it can't call, are noted and left to Feather. The provider methods of
+ * every module are also listed in {@code META-INF/feather/bindings.idx}, so reflective injectors built from
+ * these modules bind them without scanning, looking each method up only when it's first used, or, for a module
+ * with a generated injector, register them through the generated {@code bindings} method as direct calls.
+ * With the {@value #LENIENT} option set, duplicate providers and circular dependencies are noted rather than
+ * failing the build, and left for Feather to report at runtime, as tests of those failures expect.
+ */
+@SupportedAnnotationTypes(FeatherProcessor.PROVIDES)
+@SupportedOptions(FeatherProcessor.LENIENT)
+public final class FeatherProcessor extends AbstractProcessor {
+    static final String PROVIDES = "dev.mccue.feather.Provides";
+    static final String LENIENT = "feather.lenient";
+    private static final String INJECT = "jakarta.inject.Inject";
+    private static final String SINGLETON = "jakarta.inject.Singleton";
+    private static final String SCOPE = "jakarta.inject.Scope";
+    private static final String FUTURE = "java.util.concurrent.CompletableFuture";
+    private static final String INTO_SET = "dev.mccue.feather.IntoSet";
+    private static final String INTO_MAP = "dev.mccue.feather.IntoMap";
+    private static final String QUALIFIER = "jakarta.inject.Qualifier";
+    private static final String NAMED = "jakarta.inject.Named";
+    private static final String PROVIDER = "jakarta.inject.Provider";
+    private static final String LAZY = "dev.mccue.feather.Lazy";
+
+    private static final String INDEX = "META-INF/feather/bindings.idx";
+
+    private final Set<String> generated = new HashSet<>();
+    private final List<String> index = new ArrayList<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement provides = processingEnv.getElementUtils().getTypeElement(PROVIDES);
+        if (provides == null) {
+            return false;
+        }
+        Set<TypeElement> modules = new LinkedHashSet<>();
+        for (Element method : roundEnv.getElementsAnnotatedWith(provides)) {
+            modules.add((TypeElement) method.getEnclosingElement());
+        }
+        for (TypeElement module : modules) {
+            if (generated.add(module.getQualifiedName().toString())) {
+                try {
+                    new Generator(module).generate();
+                } catch (ProcessingException e) {
+                    boolean lenient = Boolean.parseBoolean(processingEnv.getOptions().get(LENIENT));
+                    processingEnv.getMessager().printMessage(lenient ? Diagnostic.Kind.NOTE : e.kind, e.getMessage(), e.element);
+                }
+            }
+        }
+        if (roundEnv.processingOver() && !index.isEmpty()) {
+            writeIndex();
+        }
+        return false;
+    }
+
+    /**
+     * Writes the provider methods of every module to the binding index Feather reads instead of scanning them
+     */
+    private void writeIndex() {
+        try (Writer writer = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX).openWriter()) {
+            writer.write("# Generated by " + FeatherProcessor.class.getName() + ", do not edit.\n");
+            for (String line : index) {
+                writer.write(line);
+                writer.write("\n");
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format("Can't write %s: %s", INDEX, e.getMessage()));
+        }
+    }
+
+    private static final class ProcessingException extends RuntimeException {
+        private final Element element;
+        private final Diagnostic.Kind kind;
+
+        private ProcessingException(Element element, String message) {
+            this(element, message, Diagnostic.Kind.ERROR);
+        }
+
+        private ProcessingException(Element element, String message, Diagnostic.Kind kind) {
+            super(message);
+            this.element = element;
+            this.kind = kind;
+        }
+
+        /**
+         * @return a note that no injector is generated for a module Feather binds reflectively all the same
+         */
+        private static ProcessingException unsupported(Element element, String message) {
+            return new ProcessingException(element, message + "; it's bound reflectively instead", Diagnostic.Kind.NOTE);
+        }
+    }
+
+    /**
+     * A binding to generate: a module method or a constructor, and the keys of its parameters
+     */
+    private record Binding(String key, ExecutableElement executable, boolean singleton, List<Parameter> parameters) {
+    }
+
+    /**
+     * @param provider whether the parameter is the key's provider, which is a Lazy if lazy is set
+     */
+    private record Parameter(String key, boolean provider, boolean lazy) {
+    }
+
+    private final class Generator {
+        private final TypeElement module;
+        private final String packageName;
+        private final String className;
+        private final Map<String, String> keyExpressions = new LinkedHashMap<>();
+        private final Map<String, String> keyTypes = new HashMap<>();
+        private final Map<String, TypeMirror> unqualified = new HashMap<>();
+        private final Map<String, Binding> bindings = new LinkedHashMap<>();
+
+        private Generator(TypeElement module) {
+            this.module = module;
+            this.packageName = processingEnv.getElementUtils().getPackageOf(module).getQualifiedName().toString();
+            this.className = "Feather" + flatName(module);
+        }
+
+        private void generate() {
+            List<ExecutableElement> providers = providers();
+            index(providers);
+            if (!accessible(module) || !module.getTypeParameters().isEmpty()) {
+                throw ProcessingException.unsupported(module, String.format("No injector is generated for %s, which isn't accessible from its package or is generic", module.getQualifiedName()));
+            }
+            for (ExecutableElement method : providers) {
+                TypeMirror provided = provided(method);
+                if (method.getModifiers().contains(Modifier.PRIVATE)
+                        || (!method.getModifiers().contains(Modifier.PUBLIC) && !samePackage(method.getEnclosingElement()))) {
+                    throw ProcessingException.unsupported(method, String.format("No injector is generated for %s, as %s isn't visible from %s", module.getQualifiedName(), method.getSimpleName(), packageName));
+                }
+                if (contribution(method)) {
+                    throw ProcessingException.unsupported(method, String.format("No injector is generated for %s, as %s contributes to a multibinding", module.getQualifiedName(), method.getSimpleName()));
+                }
+                if (provided == null) {
+                    throw ProcessingException.unsupported(method, String.format("No injector is generated for %s, as %s returns a CompletableFuture of a type that isn't a class", module.getQualifiedName(), method.getSimpleName()));
+                }
+                if (customScope(method) || (provided.getKind() == TypeKind.DECLARED && customScope(((DeclaredType) provided).asElement()))) {
+                    throw ProcessingException.unsupported(method, String.format("No injector is generated for %s, as %s has a custom scope", module.getQualifiedName(), method.getSimpleName()));
+                }
+                Binding binding = binding(method, provided, qualifier(method), singleton(method, provided));
+                if (bindings.containsKey(binding.key())) {
+                    throw new ProcessingException(method, String.format("%s has multiple providers, module %s", binding.key(), module.getQualifiedName()));
+                }
+                bindings.put(binding.key(), binding);
+            }
+            Deque<Binding> pending = new ArrayDeque<>(bindings.values());
+            while (!pending.isEmpty()) {
+                for (Parameter parameter : pending.pop().parameters()) {
+                    TypeMirror type = unqualified.get(parameter.key());
+                    if (type != null && !bindings.containsKey(parameter.key())) {
+                        ExecutableElement constructor = constructor(type);
+                        if (constructor != null) {
+                            TypeElement element = (TypeElement) constructor.getEnclosingElement();
+                            Binding binding = binding(constructor, type, null, annotation(element, SINGLETON) != null);
+                            bindings.put(binding.key(), binding);
+                            pending.push(binding);
+                        }
+                    }
+                }
+            }
+            checkCycles();
+            write();
+            index.add(String.join("\t", binaryName(module), packageName.isEmpty() ? className : packageName + "." + className));
+        }
+
+        /**
+         * Adds the module's provider methods to the binding index, in the format {@code BindingIndex} reads
+         */
+        private void index(List<ExecutableElement> providers) {
+            String moduleName = binaryName(module);
+            for (ExecutableElement method : providers) {
+                StringJoiner parameters = new StringJoiner(",");
+                for (VariableElement parameter : method.getParameters()) {
+                    parameters.add(runtimeName(parameter.asType()));
+                }
+                // contributions bind the multibinding rather than what they provide, so they're reflected on
+                TypeMirror provided = contribution(method) ? null : provided(method);
+                String providedName = provided == null ? "-" :
+                        provided.getKind().isPrimitive() ? provided.toString() :
+                        provided.getKind() == TypeKind.DECLARED && ((DeclaredType) provided).getTypeArguments().isEmpty() ? runtimeName(provided) :
+                        "-";
+                AnnotationMirror qualifier = qualifier(method);
+                String qualifierField = "-";
+                if (qualifier != null && annotationName(qualifier).equals(NAMED)) {
+                    String name = (String) qualifier.getElementValues().values().iterator().next().getValue();
+                    if (name.indexOf('\n') >= 0 || name.indexOf('\r') >= 0) {
+                        // can't be written on a line, so the key is left to reflection
+                        providedName = "-";
+                    } else {
+                        qualifierField = "=" + name;
+                    }
+                } else if (qualifier != null) {
+                    qualifierField = "@" + binaryName((TypeElement) qualifier.getAnnotationType().asElement());
+                }
+                index.add(String.join("\t", moduleName, binaryName((TypeElement) method.getEnclosingElement()),
+                        method.getSimpleName(), parameters.toString(), providedName, qualifierField));
+            }
+        }
+
+        /**
+         * @return the name Feather loads the erasure of type by: a binary or primitive name, suffixed with
+         * {@code []} for arrays
+         */
+        private String runtimeName(TypeMirror type) {
+            TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+            if (erasure.getKind() == TypeKind.ARRAY) {
+                return runtimeName(((ArrayType) erasure).getComponentType()) + "[]";
+            } else if (erasure.getKind() == TypeKind.DECLARED) {
+                return binaryName((TypeElement) ((DeclaredType) erasure).asElement());
+            }
+            return erasure.toString();
+        }
+
+        private String binaryName(TypeElement type) {
+            return processingEnv.getElementUtils().getBinaryName(type).toString();
+        }
+
+        /**
+         * Mirrors Feather's module scanning: provider methods of the module and its superclasses,
+         * where a subclass provider overrides a superclass one with the same signature.
+         */
+        private List<ExecutableElement> providers() {
+            List<ExecutableElement> providers = new ArrayList<>();
+            TypeElement current = module;
+            while (current != null && !current.getQualifiedName().contentEquals("java.lang.Object")) {
+                for (ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+                    if (annotation(method, PROVIDES) != null && (current.equals(module) || !overridden(method, providers))) {
+                        providers.add(method);
+                    }
+                }
+                TypeMirror superclass = current.getSuperclass();
+                current = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+            }
+            return providers;
+        }
+
+        private boolean overridden(ExecutableElement method, List<ExecutableElement> discovered) {
+            for (ExecutableElement other : discovered) {
+                if (other.getSimpleName().equals(method.getSimpleName()) && erasures(other).equals(erasures(method))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private List<String> erasures(ExecutableElement method) {
+            List<String> erasures = new ArrayList<>();
+            for (VariableElement parameter : method.getParameters()) {
+                erasures.add(erasure(parameter.asType()));
+            }
+            return erasures;
+        }
+
+        /**
+         * Mirrors Feather's constructor selection, returning null when the class should be left to runtime binding
+         */
+        private ExecutableElement constructor(TypeMirror type) {
+            if (type.getKind() != TypeKind.DECLARED) {
+                return null;
+            }
+            TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+            String name = element.getQualifiedName().toString();
+            if (element.getKind() != ElementKind.CLASS || element.getModifiers().contains(Modifier.ABSTRACT)
+                    || name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("dev.mccue.feather.")
+                    || !accessible(element) || customScope(element)) {
+                return null;
+            }
+            ExecutableElement inject = null;
+            ExecutableElement noarg = null;
+            for (ExecutableElement constructor : ElementFilter.constructorsIn(element.getEnclosedElements())) {
+                if (annotation(constructor, INJECT) != null) {
+                    if (inject != null) {
+                        return null;
+                    }
+                    inject = constructor;
+                } else if (constructor.getParameters().isEmpty()) {
+                    noarg = constructor;
+                }
+            }
+            ExecutableElement constructor = inject != null ? inject : noarg;
+            if (constructor == null || constructor.getModifiers().contains(Modifier.PRIVATE)
+                    || (!constructor.getModifiers().contains(Modifier.PUBLIC) && !samePackage(element))) {
+                return null;
+            }
+            return constructor;
+        }
+
+        private Binding binding(ExecutableElement executable, TypeMirror type, AnnotationMirror qualifier, boolean singleton) {
+            String key = key(type, qualifier);
+            List<Parameter> parameters = new ArrayList<>();
+            for (VariableElement parameter : executable.getParameters()) {
+                TypeMirror parameterType = parameter.asType();
+                boolean lazy = erasure(parameterType).equals(LAZY);
+                boolean provider = lazy || erasure(parameterType).equals(PROVIDER);
+                if (provider) {
+                    List<? extends TypeMirror> arguments = ((DeclaredType) parameterType).getTypeArguments();
+                    if (arguments.size() != 1 || arguments.get(0).getKind() != TypeKind.DECLARED) {
+                        throw ProcessingException.unsupported(parameter, String.format("No injector is generated for %s, as a %s parameter doesn't name a class type", module.getQualifiedName(), lazy ? "Lazy" : "Provider"));
+                    }
+                    parameterType = arguments.get(0);
+                }
+                parameters.add(new Parameter(key(parameterType, qualifier(parameter)), provider, lazy));
+            }
+            return new Binding(key, executable, singleton, parameters);
+        }
+
+        private String key(TypeMirror type, AnnotationMirror qualifier) {
+            boolean generic = generic(type);
+            String raw = generic ? type.toString() : erasure(type);
+            String literal = generic ? String.format("new dev.mccue.feather.TypeLiteral<%s>() {}", raw) : raw + ".class";
+            String key;
+            String expression;
+            if (qualifier == null) {
+                key = raw;
+                expression = String.format("dev.mccue.feather.Key.of(%s)", literal);
+                unqualified.put(key, type);
+            } else if (annotationName(qualifier).equals(NAMED)) {
+                String name = (String) qualifier.getElementValues().values().iterator().next().getValue();
+                key = raw + "@\"" + name + "\"";
+                expression = String.format("dev.mccue.feather.Key.of(%s, %s)", literal, processingEnv.getElementUtils().getConstantExpression(name));
+            } else {
+                key = raw + "@" + annotationName(qualifier);
+                expression = String.format("dev.mccue.feather.Key.of(%s, %s.class)", literal, annotationName(qualifier));
+            }
+            keyExpressions.putIfAbsent(key, expression);
+            keyTypes.putIfAbsent(key, type.getKind().isPrimitive() ?
+                    processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString() :
+                    raw);
+            return key;
+        }
+
+        /**
+         * @return whether type has type arguments, none of them type variables, so its key is generic as at runtime
+         */
+        private boolean generic(TypeMirror type) {
+            return type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty() && !typeVariable(type);
+        }
+
+        private boolean typeVariable(TypeMirror type) {
+            switch (type.getKind()) {
+                case TYPEVAR:
+                    return true;
+                case DECLARED:
+                    for (TypeMirror argument : ((DeclaredType) type).getTypeArguments()) {
+                        if (typeVariable(argument)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                case WILDCARD:
+                    WildcardType wildcard = (WildcardType) type;
+                    return (wildcard.getExtendsBound() != null && typeVariable(wildcard.getExtendsBound()))
+                            || (wildcard.getSuperBound() != null && typeVariable(wildcard.getSuperBound()));
+                case ARRAY:
+                    return typeVariable(((ArrayType) type).getComponentType());
+                default:
+                    return false;
+            }
+        }
+
+        private void checkCycles() {
+            Set<String> done = new HashSet<>();
+            for (String key : bindings.keySet()) {
+                visit(key, new ArrayList<>(), done);
+            }
+        }
+
+        private void visit(String key, List<String> chain, Set<String> done) {
+            Binding binding = bindings.get(key);
+            if (binding == null || done.contains(key)) {
+                return;
+            }
+            if (chain.contains(key)) {
+                throw new ProcessingException(module, String.format("Circular dependency: %s -> %s", String.join(" -> ", chain.subList(chain.indexOf(key), chain.size())), key));
+            }
+            chain.add(key);
+            for (Parameter parameter : binding.parameters()) {
+                if (!parameter.provider()) {
+                    visit(parameter.key(), chain, done);
+                }
+            }
+            chain.remove(chain.size() - 1);
+            done.add(key);
+        }
+
+        private void write() {
+            List<String> keys = new ArrayList<>(keyExpressions.keySet());
+            StringBuilder out = new StringBuilder();
+            out.append("// Generated by ").append(FeatherProcessor.class.getName()).append(", do not edit.\n");
+            if (!packageName.isEmpty()) {
+                out.append("package ").append(packageName).append(";\n\n");
+            }
+            out.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+            out.append("public final class ").append(className).append(" implements dev.mccue.feather.DependencyInjector {\n");
+            for (int i = 0; i < keys.size(); ++i) {
+                out.append("    private static final dev.mccue.feather.Key<").append(keyTypes.get(keys.get(i))).append("> KEY_").append(i)
+                        .append(" = ").append(keyExpressions.get(keys.get(i))).append(";\n");
+            }
+            out.append("\n    private final dev.mccue.feather.DependencyInjector injector;\n\n");
+            out.append("    public ").append(className).append("(").append(module.getQualifiedName()).append(" module) {\n");
+            out.append("        this.injector = bindings(dev.mccue.feather.DependencyInjector.builder(), module)\n");
+            for (Binding binding : bindings.values()) {
+                if (binding.executable().getKind() == ElementKind.CONSTRUCTOR) {
+                    provides(out, keys, binding);
+                }
+            }
+            out.append("                .build();\n");
+            out.append("    }\n\n");
+            out.append("    /**\n");
+            out.append("     * Registers the provider methods of module on builder as direct calls. Feather calls this for the\n");
+            out.append("     * modules it's given, finding it through the binding index.\n");
+            out.append("     */\n");
+            out.append("    public static dev.mccue.feather.DependencyInjector.Builder bindings(dev.mccue.feather.DependencyInjector.Builder builder, ")
+                    .append(module.getQualifiedName()).append(" module) {\n");
+            out.append("        return builder\n");
+            for (Binding binding : bindings.values()) {
+                if (binding.executable().getKind() != ElementKind.CONSTRUCTOR) {
+                    provides(out, keys, binding);
+                }
+            }
+            // end the chain, or the lone builder, on its last line
+            out.setLength(out.length() - 1);
+            out.append(";\n");
+            out.append("    }\n");
+            delegate(out, "<T> T", "instance", "java.lang.Class<T> type", "type");
+            delegate(out, "<T> T", "instance", "dev.mccue.feather.Key<T> key", "key");
+            delegate(out, "<T> jakarta.inject.Provider<T>", "provider", "java.lang.Class<T> type", "type");
+            delegate(out, "<T> jakarta.inject.Provider<T>", "provider", "dev.mccue.feather.Key<T> key", "key");
+            delegate(out, "<T> java.util.concurrent.CompletableFuture<T>", "instanceAsync", "dev.mccue.feather.Key<T> key", "key");
+            delegate(out, "<T> java.util.concurrent.CompletableFuture<T>", "instanceAsync", "dev.mccue.feather.Key<T> key, java.util.concurrent.Executor executor", "key, executor");
+            delegate(out, "void", "injectFields", "java.lang.Object target", "target");
+            delegate(out, "void", "injectFieldsAll", "java.util.Collection<?> targets", "targets");
+            delegate(out, "void", "injectFieldsAll", "java.lang.Object... targets", "targets");
+            delegate(out, "void", "injectFieldsAll", "java.util.Collection<?> targets, java.util.concurrent.ForkJoinPool pool", "targets, pool");
+            delegate(out, "dev.mccue.feather.DependencyInjector", "child", "java.lang.Object... modules", "modules");
+            out.append("}\n");
+
+            String name = packageName.isEmpty() ? className : packageName + "." + className;
+            try (Writer writer = processingEnv.getFiler().createSourceFile(name, module).openWriter()) {
+                writer.write(out.toString());
+            } catch (IOException e) {
+                throw new ProcessingException(module, String.format("Can't write %s: %s", name, e.getMessage()));
+            }
+        }
+
+        private void provides(StringBuilder out, List<String> keys, Binding binding) {
+            StringJoiner dependencies = new StringJoiner(", ", "new dev.mccue.feather.Key<?>[]{", "}");
+            StringJoiner injectsProvider = new StringJoiner(", ", "new boolean[]{", "}");
+            for (Parameter parameter : binding.parameters()) {
+                dependencies.add("KEY_" + keys.indexOf(parameter.key()));
+                injectsProvider.add(String.valueOf(parameter.provider()));
+            }
+            out.append("                .").append(future(binding.executable()) ? "providesFuture" : "provides")
+                    .append("(KEY_").append(keys.indexOf(binding.key())).append(", ")
+                    .append(dependencies).append(", ").append(injectsProvider).append(", ")
+                    .append(binding.singleton()).append(", dependencies -> ")
+                    .append(invocation(binding)).append(")\n");
+        }
+
+        /**
+         * @return the call creating an instance, passing what the providers of the declared dependencies return
+         */
+        private String invocation(Binding binding) {
+            StringJoiner arguments = new StringJoiner(", ", "(", ")");
+            List<Parameter> parameters = binding.parameters();
+            for (int i = 0; i < parameters.size(); ++i) {
+                Parameter parameter = parameters.get(i);
+                String type = parameter.provider() ? PROVIDER : keyTypes.get(parameter.key());
+                String argument = String.format("(%s) dependencies[%d].get()", type, i);
+                arguments.add(parameter.lazy() ? "dev.mccue.feather.Lazy.of(" + argument + ")" : argument);
+            }
+            ExecutableElement executable = binding.executable();
+            String declaringType = ((TypeElement) executable.getEnclosingElement()).getQualifiedName().toString();
+            String call = executable.getKind() == ElementKind.CONSTRUCTOR ? "new " + declaringType + arguments :
+                    executable.getModifiers().contains(Modifier.STATIC) ? declaringType + "." + executable.getSimpleName() + arguments :
+                    "module." + executable.getSimpleName() + arguments;
+            for (TypeMirror thrown : executable.getThrownTypes()) {
+                if (checked(thrown)) {
+                    return "{\n"
+                            + "                    try {\n"
+                            + "                        return " + call + ";\n"
+                            + "                    } catch (java.lang.RuntimeException | java.lang.Error e) {\n"
+                            + "                        throw e;\n"
+                            + "                    } catch (java.lang.Throwable e) {\n"
+                            + "                        throw new java.lang.reflect.UndeclaredThrowableException(e);\n"
+                            + "                    }\n"
+                            + "                }";
+                }
+            }
+            return call;
+        }
+
+        /**
+         * @return whether executable is a provider method returning a {@code CompletableFuture}, whose binding the
+         * injector composes rather than joins when provided asynchronously
+         */
+        private boolean future(ExecutableElement executable) {
+            return executable.getKind() == ElementKind.METHOD && erasure(executable.getReturnType()).equals(FUTURE);
+        }
+
+        private void delegate(StringBuilder out, String returnType, String method, String parameter, String argument) {
+            out.append("\n    @Override\n");
+            out.append("    public ").append(returnType).append(" ").append(method).append("(").append(parameter).append(") {\n");
+            out.append("        ").append(returnType.equals("void") ? "" : "return ").append("injector.").append(method).append("(").append(argument).append(");\n");
+            out.append("    }\n");
+        }
+
+        private boolean checked(TypeMirror thrown) {
+            TypeMirror runtime = processingEnv.getElementUtils().getTypeElement("java.lang.RuntimeException").asType();
+            TypeMirror error = processingEnv.getElementUtils().getTypeElement("java.lang.Error").asType();
+            return !processingEnv.getTypeUtils().isAssignable(thrown, runtime) && !processingEnv.getTypeUtils().isAssignable(thrown, error);
+        }
+
+        private boolean samePackage(Element element) {
+            return processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().contentEquals(packageName);
+        }
+
+        /**
+         * @return whether the generated class, in the module's package, can name and instantiate the type
+         */
+        private boolean accessible(TypeElement type) {
+            Element current = type;
+            while (current.getKind().isClass() || current.getKind().isInterface()) {
+                Set<Modifier> modifiers = current.getModifiers();
+                if (modifiers.contains(Modifier.PRIVATE) || (!modifiers.contains(Modifier.PUBLIC) && !samePackage(current))) {
+                    return false;
+                }
+                if (current.getEnclosingElement().getKind() != ElementKind.PACKAGE && !modifiers.contains(Modifier.STATIC)
+                        && current.getKind() == ElementKind.CLASS && current != module) {
+                    return false;
+                }
+                current = current.getEnclosingElement();
+            }
+            return true;
+        }
+
+        private AnnotationMirror qualifier(Element element) {
+            for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+                if (annotation(annotation.getAnnotationType().asElement(), QUALIFIER) != null) {
+                    return annotation;
+                }
+            }
+            return null;
+        }
+
+        private boolean singleton(ExecutableElement method, TypeMirror provided) {
+            if (annotation(method, SINGLETON) != null) {
+                return true;
+            }
+            return provided.getKind() == TypeKind.DECLARED && annotation(((DeclaredType) provided).asElement(), SINGLETON) != null;
+        }
+
+        /**
+         * @return the type method provides, which for a {@code CompletableFuture} is the type of its result, or
+         * null if that isn't a class, which is left to Feather to report
+         */
+        private TypeMirror provided(ExecutableElement method) {
+            TypeMirror returnType = method.getReturnType();
+            if (!erasure(returnType).equals(FUTURE)) {
+                return returnType;
+            }
+            List<? extends TypeMirror> arguments = ((DeclaredType) returnType).getTypeArguments();
+            return arguments.size() == 1 && arguments.get(0).getKind() == TypeKind.DECLARED ? arguments.get(0) : null;
+        }
+
+        private boolean contribution(ExecutableElement method) {
+            return annotation(method, INTO_SET) != null || annotation(method, INTO_MAP) != null;
+        }
+
+        private boolean customScope(Element element) {
+            for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+                if (annotation(annotation.getAnnotationType().asElement(), SCOPE) != null && !annotationName(annotation).equals(SINGLETON)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private String erasure(TypeMirror type) {
+            return processingEnv.getTypeUtils().erasure(type).toString();
+        }
+    }
+
+    private static String annotationName(AnnotationMirror annotation) {
+        return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private static AnnotationMirror annotation(Element element, String type) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (annotationName(annotation).equals(type)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private static String flatName(TypeElement type) {
+        Element enclosing = type.getEnclosingElement();
+        return enclosing.getKind().isClass() || enclosing.getKind().isInterface() ?
+                flatName((TypeElement) enclosing) + "_" + type.getSimpleName() :
+                type.getSimpleName().toString();
+    }
+}
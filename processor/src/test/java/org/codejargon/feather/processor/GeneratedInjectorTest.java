@@ -0,0 +1,315 @@
+package org.codejargon.feather.processor;
+
+import dev.mccue.feather.DependencyInjector;
+import dev.mccue.feather.Feather;
+import dev.mccue.feather.FeatherException;
+import dev.mccue.feather.IntoSet;
+import dev.mccue.feather.Key;
+import dev.mccue.feather.Lazy;
+import dev.mccue.feather.Provides;
+import dev.mccue.feather.TypeLiteral;
+import org.junit.Test;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Provider;
+import jakarta.inject.Qualifier;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class GeneratedInjectorTest {
+    @Test
+    public void sameGraphAsFeather() {
+        DependencyInjector generated = new FeatherGeneratedInjectorTest_Module(new Module());
+        DependencyInjector reflective = Feather.with(new Module());
+        for (DependencyInjector injector : new DependencyInjector[]{generated, reflective}) {
+            Service service = injector.instance(Service.class);
+            assertEquals("hi", service.greeting);
+            assertEquals(42, (int) injector.instance(int.class));
+            assertSame(service.repository, injector.instance(Repository.class));
+            assertNotSame(injector.instance(Service.class), service);
+        }
+    }
+
+    @Test
+    public void singletons() {
+        DependencyInjector injector = new FeatherGeneratedInjectorTest_Module(new Module());
+        assertSame(injector.instance(Repository.class), injector.instance(Repository.class));
+        assertSame(injector.instance(Config.class), injector.instance(Config.class));
+    }
+
+    @Test
+    public void qualifiers() {
+        DependencyInjector injector = new FeatherGeneratedInjectorTest_Module(new Module());
+        assertEquals("hi", injector.instance(Key.of(String.class, "greeting")));
+        assertEquals("some", injector.instance(Key.of(String.class, Some.class)));
+        assertEquals("plain", injector.instance(String.class));
+    }
+
+    @Test
+    public void providerInjection() {
+        DependencyInjector injector = new FeatherGeneratedInjectorTest_Module(new Module());
+        Circular circular = injector.instance(Circular.class);
+        assertNotNull(circular.service.get().circular.get());
+    }
+
+    @Test
+    public void providersCalledWithoutReflection() {
+        DependencyInjector injector = new FeatherGeneratedInjectorTest_Module(new Module());
+        Config config = injector.instance(Config.class);
+        assertEquals(FeatherGeneratedInjectorTest_Module.class.getName(), config.caller.getClassName());
+    }
+
+    @Test
+    public void featherBindsThroughGeneratedBindings() {
+        Config config = Feather.with(new Module()).instance(Config.class);
+        assertEquals(FeatherGeneratedInjectorTest_Module.class.getName(), config.caller.getClassName());
+        assertEquals("bar", Feather.with(new FooOverrideModule()).instance(String.class));
+    }
+
+    @Test
+    public void moduleOverriddenBySubclass() {
+        assertEquals("foo", new FeatherGeneratedInjectorTest_FooModule(new FooModule()).instance(String.class));
+        assertEquals("bar", new FeatherGeneratedInjectorTest_FooOverrideModule(new FooOverrideModule()).instance(String.class));
+    }
+
+    @Test
+    public void typesOutsideModuleBoundJustInTime() {
+        DependencyInjector injector = new FeatherGeneratedInjectorTest_Module(new Module());
+        assertNotNull(injector.instance(Unrelated.class));
+    }
+
+    @Test
+    public void futureProviders() {
+        DependencyInjector generated = new FeatherGeneratedInjectorTest_Module(new Module());
+        DependencyInjector reflective = Feather.with(new Module());
+        for (DependencyInjector injector : new DependencyInjector[]{generated, reflective}) {
+            assertEquals(7L, (long) injector.instance(Long.class));
+            assertEquals(7L, (long) injector.instanceAsync(Key.of(Long.class)).join());
+        }
+    }
+
+    @Test
+    public void genericKeys() {
+        DependencyInjector generated = new FeatherGeneratedInjectorTest_Module(new Module());
+        DependencyInjector reflective = Feather.with(new Module());
+        for (DependencyInjector injector : new DependencyInjector[]{generated, reflective}) {
+            assertEquals(List.of("a", "b"), injector.instance(Key.of(new TypeLiteral<List<String>>() {})));
+            assertEquals(List.of(1, 2), injector.instance(Key.of(new TypeLiteral<List<Integer>>() {})));
+        }
+    }
+
+    @Test
+    public void lazyParameters() {
+        DependencyInjector generated = new FeatherGeneratedInjectorTest_Module(new Module());
+        DependencyInjector reflective = Feather.with(new Module());
+        for (DependencyInjector injector : new DependencyInjector[]{generated, reflective}) {
+            assertEquals("hi!", injector.instance(Key.of(String.class, "lazy")));
+        }
+    }
+
+    @Test
+    public void modulesIndexed() throws IOException {
+        try (InputStream in = GeneratedInjectorTest.class.getClassLoader().getResourceAsStream("META-INF/feather/bindings.idx")) {
+            String index = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(index, index.contains(String.join("\t", Module.class.getName(), Module.class.getName(), "greeting", "", "java.lang.String", "=greeting")));
+            assertTrue(index, index.contains(String.join("\t", Module.class.getName(), Module.class.getName(), "some", "", "java.lang.String", "@" + Some.class.getName())));
+            assertTrue(index, index.contains(String.join("\t", Module.class.getName(), Module.class.getName(), "names", "", "-", "-")));
+            assertTrue(index, index.contains(String.join("\t", FooOverrideModule.class.getName(), FooOverrideModule.class.getName(), "foo", "", "java.lang.String", "-")));
+            assertTrue(index, index.contains(String.join("\t", Module.class.getName(), FeatherGeneratedInjectorTest_Module.class.getName()) + "\n"));
+        }
+    }
+
+    @Test
+    public void unsupportedModulesIndexedButNotGenerated() throws IOException {
+        for (Class<?> module : new Class<?>[]{ContributingModule.class, PrivateProviderModule.class, HiddenModule.class}) {
+            assertFalse(module.getName(), generated(module));
+        }
+        try (InputStream in = GeneratedInjectorTest.class.getClassLoader().getResourceAsStream("META-INF/feather/bindings.idx")) {
+            String index = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(index, index.contains(String.join("\t", ContributingModule.class.getName(), ContributingModule.class.getName(), "contributed", "", "-", "-")));
+            assertTrue(index, index.contains(String.join("\t", PrivateProviderModule.class.getName(), PrivateProviderModule.class.getName(), "hidden", "", "java.lang.String", "-")));
+            assertTrue(index, index.contains(String.join("\t", HiddenModule.class.getName(), HiddenModule.class.getName(), "hidden", "", "java.lang.String", "-")));
+        }
+    }
+
+    @Test
+    public void unsupportedModulesBoundFromIndex() {
+        assertEquals(Set.of("contributed"), Feather.with(new ContributingModule()).instance(Key.of(new TypeLiteral<Set<String>>() {})));
+        assertEquals("private", Feather.with(new PrivateProviderModule()).instance(String.class));
+        assertEquals("hidden", Feather.with(new HiddenModule()).instance(String.class));
+    }
+
+    private static boolean generated(Class<?> module) {
+        try {
+            Class.forName(module.getPackageName() + ".Feather" + module.getName().substring(module.getPackageName().length() + 1).replace('$', '_'));
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    @Test(expected = FeatherException.class)
+    public void checkedExceptionWrapped() {
+        new FeatherGeneratedInjectorTest_FailingModule(new FailingModule()).instance(String.class);
+    }
+
+    @Qualifier
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Some {
+    }
+
+    public static class Module {
+        @Provides
+        String plain() {
+            return "plain";
+        }
+
+        @Provides
+        @Named("greeting")
+        String greeting() {
+            return "hi";
+        }
+
+        @Provides
+        @Some
+        String some() {
+            return "some";
+        }
+
+        @Provides
+        @Named("lazy")
+        String lazy(@Named("greeting") Lazy<String> greeting) {
+            return greeting.get() + "!";
+        }
+
+        @Provides
+        List<String> names() {
+            return List.of("a", "b");
+        }
+
+        @Provides
+        List<Integer> numbers() {
+            return List.of(1, 2);
+        }
+
+        @Provides
+        static int answer() {
+            return 42;
+        }
+
+        @Provides
+        CompletableFuture<Long> seven() {
+            return CompletableFuture.supplyAsync(() -> 7L);
+        }
+
+        @Provides
+        @Singleton
+        Config config() {
+            return new Config(new Throwable().getStackTrace()[1]);
+        }
+
+        @Provides
+        Service service(@Named("greeting") String greeting, Repository repository, Provider<Circular> circular) {
+            return new Service(greeting, repository, circular);
+        }
+    }
+
+    public static class Config {
+        private final StackTraceElement caller;
+
+        Config(StackTraceElement caller) {
+            this.caller = caller;
+        }
+    }
+
+    @Singleton
+    public static class Repository {
+        @Inject
+        public Repository(Config config) {
+        }
+    }
+
+    public static class Service {
+        private final String greeting;
+        private final Repository repository;
+        private final Provider<Circular> circular;
+
+        Service(String greeting, Repository repository, Provider<Circular> circular) {
+            this.greeting = greeting;
+            this.repository = repository;
+            this.circular = circular;
+        }
+    }
+
+    public static class Circular {
+        private final Provider<Service> service;
+
+        @Inject
+        public Circular(Provider<Service> service) {
+            this.service = service;
+        }
+    }
+
+    public static class Unrelated {
+    }
+
+    public static class FooModule {
+        @Provides
+        String foo() {
+            return "foo";
+        }
+    }
+
+    public static class FooOverrideModule extends FooModule {
+        @Provides
+        @Override
+        String foo() {
+            return "bar";
+        }
+    }
+
+    public static class FailingModule {
+        @Provides
+        String failing() throws IOException {
+            throw new IOException("failed");
+        }
+    }
+
+    public static class ContributingModule {
+        @Provides
+        @IntoSet
+        String contributed() {
+            return "contributed";
+        }
+    }
+
+    public static class PrivateProviderModule {
+        @Provides
+        private String hidden() {
+            return "private";
+        }
+    }
+
+    private static class HiddenModule {
+        @Provides
+        String hidden() {
+            return "hidden";
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package dev.mccue.feather;
+
+import jakarta.inject.Provider;
+
+import java.util.function.Function;
+
+/**
+ * A binding registered on {@link DependencyInjector.Builder} with its dependencies declared, provided by
+ * calling the factory directly instead of through a reflectively discovered module method.
+ *
+ * @param dependencies    the keys the factory depends on, looked up once and then reused
+ * @param injectsProvider for each dependency, whether its provider is injected rather than its value
+ * @param factory         creates an instance from the providers of what's injected for the dependencies
+ * @param future          whether factory returns a {@link java.util.concurrent.CompletableFuture} of the instance
+ */
+record Binding(Key<?> key, Key<?>[] dependencies, boolean[] injectsProvider, Function<Provider<?>[], ?> factory, boolean singleton, boolean future) {
+}
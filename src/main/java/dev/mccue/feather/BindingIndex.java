@@ -0,0 +1,159 @@
+package dev.mccue.feather;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * The provider methods of modules, as listed at build time in {@value #RESOURCE} resources by the annotation
+ * processor, so injectors can bind them without scanning the modules. A method is looked up by its exact
+ * signature only when its binding is first used. Each line describes one provider method, in tab separated
+ * fields: the module, the class declaring the method, its name, its comma separated parameter types, the
+ * class it provides, or {@code -} if its key can't be written down without reflection, and its qualifier:
+ * {@code -} for none, {@code @} followed by the qualifier annotation, or {@code =} followed by the
+ * {@code @Named} value. Classes are written by binary name, arrays with a {@code []} suffix. A line of two fields
+ * names a module and the injector generated for it, whose static {@code bindings(Builder, Module)} method registers
+ * the module's provider methods as direct calls.
+ */
+final class BindingIndex {
+    static final String RESOURCE = "META-INF/feather/bindings.idx";
+    private static final Map<ClassLoader, Index> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+    /**
+     * The generated bindings method of each module class, empty if it has none usable
+     */
+    private static final ClassValue<Optional<Method>> GENERATED = new ClassValue<>() {
+        @Override
+        protected Optional<Method> computeValue(Class<?> type) {
+            String generated = index(type).generated.get(type.getName());
+            if (generated == null) {
+                return Optional.empty();
+            }
+            try {
+                Method bindings = type(generated, type.getClassLoader()).getMethod("bindings", DependencyInjector.Builder.class, type);
+                return Modifier.isStatic(bindings.getModifiers()) ? Optional.of(bindings) : Optional.empty();
+            } catch (NoSuchMethodException e) {
+                // generated for the same module loaded by another loader
+                return Optional.empty();
+            }
+        }
+    };
+
+    private BindingIndex() {
+    }
+
+    /**
+     * @return the indexed provider methods of module type, or null if it isn't indexed
+     */
+    static Entry[] entries(Class<?> type) {
+        return index(type).entries.get(type.getName());
+    }
+
+    /**
+     * @return the static method of the injector generated for module type registering its bindings, or null if
+     * it has none
+     */
+    static Method generated(Class<?> type) {
+        return GENERATED.get(type).orElse(null);
+    }
+
+    private static Index index(Class<?> type) {
+        ClassLoader loader = type.getClassLoader();
+        return loader == null ? Index.EMPTY : INDEXES.computeIfAbsent(loader, BindingIndex::load);
+    }
+
+    private record Index(Map<String, Entry[]> entries, Map<String, String> generated) {
+        private static final Index EMPTY = new Index(Map.of(), Map.of());
+    }
+
+    /**
+     * @param provided the binary name of the class provided, or null if the key must be found by reflection
+     * @param qualifier the qualifier field, as written in the index
+     */
+    record Entry(String declaringClass, String method, String[] parameterTypes, String provided, String qualifier) {
+        /**
+         * @return the key the method binds, or null if only reflecting on the method can tell
+         */
+        @SuppressWarnings("unchecked")
+        Key<?> key(ClassLoader loader) {
+            if (provided == null) {
+                return null;
+            }
+            Class<?> type = type(provided, loader);
+            if (qualifier.equals("-")) {
+                return Key.of(type);
+            } else if (qualifier.startsWith("=")) {
+                return Key.of(type, qualifier.substring(1));
+            }
+            return Key.of(type, (Class<? extends Annotation>) type(qualifier.substring(1), loader));
+        }
+
+        Method method(ClassLoader loader) {
+            Class<?>[] parameters = new Class<?>[parameterTypes.length];
+            for (int i = 0; i < parameters.length; ++i) {
+                parameters[i] = type(parameterTypes[i], loader);
+            }
+            try {
+                return type(declaringClass, loader).getDeclaredMethod(method, parameters);
+            } catch (NoSuchMethodException e) {
+                throw new FeatherException(String.format("Provider method %s of %s is in %s, but not in the class; rebuild the index", method, declaringClass, RESOURCE), e);
+            }
+        }
+    }
+
+    private static Index load(ClassLoader loader) {
+        Map<String, List<Entry>> entries = new HashMap<>();
+        Map<String, String> generated = new HashMap<>();
+        try {
+            // a loader may find the same resource on more than one path
+            Set<URL> resources = new LinkedHashSet<>(Collections.list(loader.getResources(RESOURCE)));
+            for (URL resource : resources) {
+                try (InputStream in = resource.openStream()) {
+                    BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+                    for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                        if (line.isEmpty() || line.startsWith("#")) {
+                            continue;
+                        }
+                        String[] fields = line.split("\t", 6);
+                        if (fields.length == 2) {
+                            generated.put(fields[0], fields[1]);
+                            continue;
+                        } else if (fields.length != 6) {
+                            throw new FeatherException(String.format("Malformed line in %s: %s", RESOURCE, line));
+                        }
+                        String[] parameters = fields[3].isEmpty() ? new String[0] : fields[3].split(",");
+                        entries.computeIfAbsent(fields[0], module -> new ArrayList<>())
+                                .add(new Entry(fields[1], fields[2], parameters, fields[4].equals("-") ? null : fields[4], fields[5]));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new FeatherException(String.format("Can't read %s", RESOURCE), e);
+        }
+        Map<String, Entry[]> index = new HashMap<>();
+        entries.forEach((module, list) -> index.put(module, list.toArray(new Entry[0])));
+        return new Index(index, generated);
+    }
+
+    private static Class<?> type(String name, ClassLoader loader) {
+        try {
+            return Types.named(name, loader);
+        } catch (ClassNotFoundException e) {
+            throw new FeatherException(String.format("%s names %s, which can't be loaded; rebuild the index", RESOURCE, name), e);
+        }
+    }
+}
@@ -2,10 +2,19 @@ package dev.mccue.feather;
 
 import jakarta.inject.Provider;
 
+import java.lang.annotation.Annotation;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
-public sealed interface DependencyInjector
-        permits Feather {
+public interface DependencyInjector {
     /**
      * @return an instance of type
      */
@@ -26,11 +35,42 @@ public sealed interface DependencyInjector
      */
     <T> Provider<T> provider(Key<T> key);
 
+    /**
+     * @return the future instance specified by key. Parameters are constructed concurrently on virtual
+     * threads, and provider methods returning a {@link CompletableFuture} are composed without blocking.
+     */
+    <T> CompletableFuture<T> instanceAsync(Key<T> key);
+
+    /**
+     * @return the future instance specified by key, constructing parameters concurrently on executor
+     */
+    <T> CompletableFuture<T> instanceAsync(Key<T> key, Executor executor);
+
     /**
      * Injects fields to the target object
      */
     void injectFields(Object target);
 
+    /**
+     * Injects fields to every target. The fields of each class are resolved once for the whole batch.
+     */
+    void injectFieldsAll(Collection<?> targets);
+
+    /**
+     * Injects fields to every target. The fields of each class are resolved once for the whole batch.
+     */
+    void injectFieldsAll(Object... targets);
+
+    /**
+     * Injects fields to every target, splitting a large batch into tasks run on pool
+     */
+    void injectFieldsAll(Collection<?> targets, ForkJoinPool pool);
+
+    /**
+     * @return an injector which shares the bindings and singletons of this one and adds those of modules
+     */
+    DependencyInjector child(Object... modules);
+
     /**
      * @return A builder to make a {@link DependencyInjector}.
      */
@@ -39,7 +79,24 @@ public sealed interface DependencyInjector
     }
 
     final class Builder {
+        private static final Key<?>[] INJECTOR = {Key.of(DependencyInjector.class)};
+        /**
+         * The system property which, set to true, makes every injector use the binding index, as {@link #index()} does
+         */
+        public static final String INDEX = "feather.index";
         ArrayList<Object> modules = new ArrayList<>();
+        ArrayList<Binding> bindings = new ArrayList<>();
+        ArrayList<Key<?>> multibindings = new ArrayList<>();
+        boolean validated = false;
+        boolean indexed = Boolean.getBoolean(INDEX);
+        ArrayList<Key<?>> roots = new ArrayList<>();
+        boolean eager = false;
+        Executor executor = null;
+        Path classList = null;
+        Path keyList = null;
+        Path replayed = null;
+        ArrayList<ProvisionListener> listeners = new ArrayList<>();
+        HashMap<Class<? extends Annotation>, Scope> scopes = new HashMap<>();
 
         private Builder() {}
 
@@ -48,8 +105,184 @@ public sealed interface DependencyInjector
             return this;
         }
 
+        /**
+         * Binds key to a factory called with a provider per dependency, in order, whose {@code get()} returns
+         * what's injected for it: the dependency's value or, where injectsProvider is set, its provider. The
+         * factory is called on every provision or, if singleton is set, once. Injectors generated by
+         * feather-processor register their bindings this way, so the dependencies of a binding are looked
+         * up once rather than on every provision.
+         */
+        public <T> Builder provides(Key<T> key, Key<?>[] dependencies, boolean[] injectsProvider, boolean singleton, Function<Provider<?>[], ? extends T> factory) {
+            if (dependencies.length != injectsProvider.length) {
+                throw new FeatherException(String.format("%s declares %d dependencies but %d injectsProvider flags", key, dependencies.length, injectsProvider.length));
+            }
+            bindings.add(new Binding(key, dependencies.clone(), injectsProvider.clone(), factory, singleton, false));
+            return this;
+        }
+
+        /**
+         * Binds key as {@link #provides(Key, Key[], boolean[], boolean, Function)} does, to a factory returning a
+         * future of the instance, like a provider method returning a {@link CompletableFuture}: provisions join it,
+         * while {@link DependencyInjector#instanceAsync(Key)} composes it without blocking.
+         */
+        public <T> Builder providesFuture(Key<T> key, Key<?>[] dependencies, boolean[] injectsProvider, boolean singleton, Function<Provider<?>[], ? extends CompletableFuture<? extends T>> factory) {
+            if (dependencies.length != injectsProvider.length) {
+                throw new FeatherException(String.format("%s declares %d dependencies but %d injectsProvider flags", key, dependencies.length, injectsProvider.length));
+            }
+            bindings.add(new Binding(key, dependencies.clone(), injectsProvider.clone(), factory, singleton, true));
+            return this;
+        }
+
+        /**
+         * Binds key to a factory called on every provision. Unlike module methods, the factory
+         * is invoked directly, without reflection.
+         */
+        public <T> Builder bind(Key<T> key, Function<DependencyInjector, ? extends T> factory) {
+            return provides(key, INJECTOR, new boolean[]{false}, false, dependencies -> factory.apply((DependencyInjector) dependencies[0].get()));
+        }
+
+        /**
+         * Binds key to a factory of the instance of a, called on every provision. The dependency is
+         * declared up front, so it's validated and its provider is looked up only once.
+         */
+        @SuppressWarnings("unchecked")
+        public <T, A> Builder bind(Key<T> key, Key<A> a, Function<? super A, ? extends T> factory) {
+            return provides(key, new Key<?>[]{a}, new boolean[]{false}, false, dependencies -> factory.apply((A) dependencies[0].get()));
+        }
+
+        /**
+         * Binds key to a factory of the instances of a and b, called on every provision. The dependencies
+         * are declared up front, so they're validated and their providers are looked up only once.
+         */
+        @SuppressWarnings("unchecked")
+        public <T, A, B> Builder bind(Key<T> key, Key<A> a, Key<B> b, BiFunction<? super A, ? super B, ? extends T> factory) {
+            return provides(key, new Key<?>[]{a, b}, new boolean[]{false, false}, false, dependencies -> factory.apply((A) dependencies[0].get(), (B) dependencies[1].get()));
+        }
+
+        /**
+         * Binds key to a factory called once, sharing its result like a {@code @Singleton}.
+         */
+        public <T> Builder singleton(Key<T> key, Function<DependencyInjector, ? extends T> factory) {
+            return provides(key, INJECTOR, new boolean[]{false}, true, dependencies -> factory.apply((DependencyInjector) dependencies[0].get()));
+        }
+
+        /**
+         * Binds key to a factory of the instance of a, called once, sharing its result like a {@code @Singleton}.
+         */
+        @SuppressWarnings("unchecked")
+        public <T, A> Builder singleton(Key<T> key, Key<A> a, Function<? super A, ? extends T> factory) {
+            return provides(key, new Key<?>[]{a}, new boolean[]{false}, true, dependencies -> factory.apply((A) dependencies[0].get()));
+        }
+
+        /**
+         * Binds key to a factory of the instances of a and b, called once, sharing its result like a
+         * {@code @Singleton}.
+         */
+        @SuppressWarnings("unchecked")
+        public <T, A, B> Builder singleton(Key<T> key, Key<A> a, Key<B> b, BiFunction<? super A, ? super B, ? extends T> factory) {
+            return provides(key, new Key<?>[]{a, b}, new boolean[]{false, false}, true, dependencies -> factory.apply((A) dependencies[0].get(), (B) dependencies[1].get()));
+        }
+
+        /**
+         * Declares the set or map of key, a {@code Set<E>} or {@code Map<String, V>}, which is bound to an
+         * empty collection if nothing contributes to it. Without a declaration, such a collection is only
+         * bound by its contributions.
+         */
+        public Builder multibinding(Key<?> key) {
+            if (!Feather.multibinding(key)) {
+                throw new FeatherException(String.format("%s is not a set or a map with String keys", key));
+            }
+            multibindings.add(key);
+            return this;
+        }
+
+        /**
+         * Binds the modules listed in the binding index written by feather-processor from that index rather than
+         * by scanning their classes, and modules it has generated bindings for through those. The index is taken
+         * as complete, so it must be rebuilt whenever a module or a module it extends changes: a provider method
+         * it doesn't list isn't bound. Children of the injector use the index as well.
+         */
+        public Builder index() {
+            indexed = true;
+            return this;
+        }
+
+        /**
+         * Checks the graph reachable from the modules and roots when the injector is built, failing with
+         * every missing binding, ambiguous constructor and circular dependency found. Bindings validated
+         * this way are known to be acyclic, so resolving them skips the cycle checks made at runtime.
+         */
+        public Builder validate(Key<?>... roots) {
+            validated = true;
+            this.roots.addAll(Arrays.asList(roots));
+            return this;
+        }
+
+        /**
+         * Instantiates every {@code @Singleton} reachable from the modules when the injector is built,
+         * constructing independent singletons concurrently on virtual threads.
+         */
+        public Builder eager() {
+            eager = true;
+            executor = null;
+            return this;
+        }
+
+        /**
+         * Instantiates every {@code @Singleton} reachable from the modules when the injector is built,
+         * constructing independent singletons concurrently on executor.
+         */
+        public Builder eager(Executor executor) {
+            eager = true;
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Trains the injector for faster starts: links the graph reachable from the modules and roots when the
+         * injector is built, checking it as {@link #validate(Key[])} does, then writes the classes the graph
+         * refers to to classList, usable as an AppCDS class list, and the keys linked to keyList, for
+         * {@link #replay(Path)} to link in production.
+         */
+        public Builder train(Path classList, Path keyList, Key<?>... roots) {
+            this.classList = classList;
+            this.keyList = keyList;
+            this.roots.addAll(Arrays.asList(roots));
+            return this;
+        }
+
+        /**
+         * Links every key in keyList, as written by {@link #train(Path, Path, Key[])}, and their dependencies
+         * when the injector is built, so none of those bindings is created on first use. The classes of the
+         * keys are loaded through the context class loader of the building thread.
+         */
+        public Builder replay(Path keyList) {
+            replayed = keyList;
+            return this;
+        }
+
+        /**
+         * Reports binding creations, provisions and singleton initializations to listener.
+         */
+        public Builder listener(ProvisionListener listener) {
+            listeners.add(listener);
+            return this;
+        }
+
+        /**
+         * Provides classes and provider methods annotated with annotation, itself annotated with
+         * {@link jakarta.inject.Scope}, through scope.
+         */
+        public Builder scope(Class<? extends Annotation> annotation, Scope scope) {
+            if (!annotation.isAnnotationPresent(jakarta.inject.Scope.class) || annotation == jakarta.inject.Singleton.class) {
+                throw new FeatherException(String.format("%s is not a custom scope annotation", annotation.getName()));
+            }
+            scopes.put(annotation, scope);
+            return this;
+        }
+
         public DependencyInjector build() {
-            return Feather.with(modules);
+            return Feather.build(this);
         }
     }
 }
@@ -1,29 +1,107 @@
 package dev.mccue.feather;
 
-import jakarta.inject.Inject;
 import jakarta.inject.Provider;
-import jakarta.inject.Qualifier;
 import jakarta.inject.Singleton;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 
 public final class Feather implements DependencyInjector {
+    private static final Executor VIRTUAL_THREADS = Thread::startVirtualThread;
+    private static final Dependency[] NO_DEPENDENCIES = new Dependency[0];
+    private static final ThreadLocal<Resolution> RESOLUTION = ThreadLocal.withInitial(Resolution::new);
+    /**
+     * The number of targets below which a batch of field injections isn't split any further
+     */
+    private static final int FIELD_INJECTION_BATCH = 1024;
     private final Map<Key<?>, Provider<?>> providers = new ConcurrentHashMap<>();
-    private final Map<Key<?>, Object> singletons = new ConcurrentHashMap<>();
-    private final Map<Class<?>, Object[][]> injectFields = new ConcurrentHashMap<>(0);
+    private final Map<Key<?>, Dependency[]> dependencies = new ConcurrentHashMap<>();
+    /**
+     * The field injectors of each class, kept by the injector rather than in a ClassValue, whose values
+     * would pin the injector their dependencies refer to for as long as the class is loaded
+     */
+    private final Map<Class<?>, FieldInjector[]> fieldInjectors = new ConcurrentHashMap<>();
+    private final ProvisionListener listener;
+    private final Feather parent;
+    /**
+     * Set while the injector is validated at build, which detects cycles itself, so bindings start out acyclic
+     */
+    private volatile boolean validating;
+    private final Map<Class<? extends Annotation>, Scope> scopes;
+    private final Map<Key<?>, Multibinding> multibindings = new HashMap<>();
+    /**
+     * Whether modules listed in the binding index are bound from it, which children inherit
+     */
+    private final boolean indexed;
 
-    private Feather(Iterable<?> modules) {
+    private Feather(Feather parent, DependencyInjector.Builder builder) {
+        this.parent = parent;
+        validating = builder.validated || builder.eager || builder.classList != null || builder.replayed != null;
+        listener = parent != null ? parent.listener : listener(builder.listeners);
+        scopes = parent != null ? parent.scopes : Map.copyOf(builder.scopes);
+        indexed = parent != null ? parent.indexed : builder.indexed;
         providers.put(Key.of(Feather.class), () -> this);
         providers.put(Key.of(DependencyInjector.class), () -> this);
-        for (final Object module : modules) {
+        for (final Object module : builder.modules) {
             if (module instanceof Class) {
                 throw new FeatherException(String.format("%s provided as class instead of an instance.", ((Class<?>) module).getName()));
             }
-            for (Method providerMethod : providers(module.getClass())) {
-                providerMethod(module, providerMethod);
+            BindingIndex.Entry[] entries = indexed ? BindingIndex.entries(module.getClass()) : null;
+            if (entries != null) {
+                indexed(module, entries);
+                continue;
+            }
+            for (Metadata.ProviderMethod providerMethod : Metadata.providers(module.getClass())) {
+                if (providerMethod.contribution() != null) {
+                    contribution(module, providerMethod);
+                } else {
+                    providerMethod(module, providerMethod);
+                }
+            }
+        }
+        for (Key<?> key : builder.multibindings) {
+            multibindings.computeIfAbsent(key, this::inherited);
+        }
+        multibindings();
+        for (Binding binding : builder.bindings) {
+            binding(binding);
+        }
+        // the keys validated, each after those it depends on
+        List<Key<?>> validated = new ArrayList<>();
+        if (validating) {
+            List<Key<?>> roots = new ArrayList<>(providers.keySet());
+            roots.addAll(builder.roots);
+            if (builder.replayed != null) {
+                ClassLoader loader = Thread.currentThread().getContextClassLoader();
+                roots.addAll(Training.read(builder.replayed, loader != null ? loader : Feather.class.getClassLoader()));
+            }
+            Set<Key<?>> linked = validate(roots, validated);
+            if (builder.classList != null) {
+                Training.write(builder.classList, builder.keyList, builder.modules, linked);
+            }
+            validating = false;
+        }
+        if (builder.eager) {
+            if (builder.executor != null) {
+                warmUp(validated, builder.executor);
+            } else {
+                try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                    warmUp(validated, executor);
+                }
             }
         }
     }
@@ -32,14 +110,22 @@ public final class Feather implements DependencyInjector {
      * Constructs Feather with configuration modules
      */
     public static Feather with(Object... modules) {
-        return new Feather(Arrays.asList(modules));
+        return with(Arrays.asList(modules));
     }
 
     /**
      * Constructs Feather with configuration modules
      */
     public static Feather with(Iterable<?> modules) {
-        return new Feather(modules);
+        DependencyInjector.Builder builder = DependencyInjector.builder();
+        for (Object module : modules) {
+            builder.module(module);
+        }
+        return build(builder);
+    }
+
+    static Feather build(DependencyInjector.Builder builder) {
+        return new Feather(null, builder);
     }
 
     private static Object[] params(Provider<?>[] paramProviders) {
@@ -50,113 +136,119 @@ public final class Feather implements DependencyInjector {
         return params;
     }
 
-    private static Set<Key<?>> append(Set<Key<?>> set, Key<?> newKey) {
-        if (set != null && !set.isEmpty()) {
-            Set<Key<?>> appended = new LinkedHashSet<>(set);
-            appended.add(newKey);
-            return appended;
-        } else {
-            return Collections.singleton(newKey);
-        }
-    }
-
-    private static Object[][] injectFields(Class<?> target) {
-        Set<Field> fields = fields(target);
-        Object[][] fs = new Object[fields.size()][];
-        int i = 0;
-        for (Field f : fields) {
-            Class<?> providerType = f.getType().equals(Provider.class) ?
-                    (Class<?>) ((ParameterizedType) f.getGenericType()).getActualTypeArguments()[0] :
-                    null;
-            fs[i++] = new Object[]{
-                    f,
-                    providerType != null,
-                    Key.of(
-                            (Class<?>) (providerType != null ? providerType : f.getType()),
-                            qualifier(f.getAnnotations())
-                    )
-            };
-        }
-        return fs;
-    }
-
-    private static Set<Field> fields(Class<?> type) {
-        Class<?> current = type;
-        Set<Field> fields = new HashSet<>();
-        while (!current.equals(Object.class)) {
-            for (Field field : current.getDeclaredFields()) {
-                if (field.isAnnotationPresent(Inject.class)) {
-                    field.setAccessible(true);
-                    fields.add(field);
-                }
+    /**
+     * @return a provider calling factory with the values of paramProviders. Up to four parameters are passed
+     * to the method handle directly, so that a provision allocates nothing but the produced object.
+     */
+    private static Invocation invoker(MethodHandle factory, final Provider<?>[] paramProviders, final Dependency[] dependencies, final Key<?> key, final String failure) {
+        final MethodHandle h = factory.asType(MethodType.genericMethodType(paramProviders.length));
+        switch (paramProviders.length) {
+            case 0:
+                return new Invocation(h, dependencies, key, failure) {
+                    @Override
+                    public Object get() {
+                        try {
+                            return h.invokeExact();
+                        } catch (Throwable e) {
+                            throw new FeatherException(String.format(failure, key), e);
+                        }
+                    }
+                };
+            case 1: {
+                final Provider<?> p0 = paramProviders[0];
+                return new Invocation(h, dependencies, key, failure) {
+                    @Override
+                    public Object get() {
+                        try {
+                            return h.invokeExact(p0.get());
+                        } catch (Throwable e) {
+                            throw new FeatherException(String.format(failure, key), e);
+                        }
+                    }
+                };
             }
-            current = current.getSuperclass();
-        }
-        return fields;
-    }
-
-    private static String chain(Set<Key<?>> chain, Key<?> lastKey) {
-        StringBuilder chainString = new StringBuilder();
-        for (Key<?> key : chain) {
-            chainString.append(key.toString()).append(" -> ");
-        }
-        return chainString.append(lastKey.toString()).toString();
-    }
-
-    private static Constructor<?> constructor(Key<?> key) {
-        Constructor<?> inject = null;
-        Constructor<?> noarg = null;
-        for (Constructor<?> c : key.type.getDeclaredConstructors()) {
-            if (c.isAnnotationPresent(Inject.class)) {
-                if (inject == null) {
-                    inject = c;
-                } else {
-                    throw new FeatherException(String.format("%s has multiple @Inject constructors", key.type));
-                }
-            } else if (c.getParameterTypes().length == 0) {
-                noarg = c;
+            case 2: {
+                final Provider<?> p0 = paramProviders[0];
+                final Provider<?> p1 = paramProviders[1];
+                return new Invocation(h, dependencies, key, failure) {
+                    @Override
+                    public Object get() {
+                        try {
+                            return h.invokeExact(p0.get(), p1.get());
+                        } catch (Throwable e) {
+                            throw new FeatherException(String.format(failure, key), e);
+                        }
+                    }
+                };
             }
-        }
-        Constructor<?> constructor = inject != null ? inject : noarg;
-        if (constructor != null) {
-            constructor.setAccessible(true);
-            return constructor;
-        } else {
-            throw new FeatherException(String.format("%s doesn't have an @Inject or no-arg constructor, or a module provider", key.type.getName()));
-        }
-    }
-
-    private static Set<Method> providers(Class<?> type) {
-        Class<?> current = type;
-        Set<Method> providers = new HashSet<>();
-        while (!current.equals(Object.class)) {
-            for (Method method : current.getDeclaredMethods()) {
-                if (method.isAnnotationPresent(Provides.class) && (type.equals(current) || !providerInSubClass(method, providers))) {
-                    method.setAccessible(true);
-                    providers.add(method);
-                }
+            case 3: {
+                final Provider<?> p0 = paramProviders[0];
+                final Provider<?> p1 = paramProviders[1];
+                final Provider<?> p2 = paramProviders[2];
+                return new Invocation(h, dependencies, key, failure) {
+                    @Override
+                    public Object get() {
+                        try {
+                            return h.invokeExact(p0.get(), p1.get(), p2.get());
+                        } catch (Throwable e) {
+                            throw new FeatherException(String.format(failure, key), e);
+                        }
+                    }
+                };
+            }
+            case 4: {
+                final Provider<?> p0 = paramProviders[0];
+                final Provider<?> p1 = paramProviders[1];
+                final Provider<?> p2 = paramProviders[2];
+                final Provider<?> p3 = paramProviders[3];
+                return new Invocation(h, dependencies, key, failure) {
+                    @Override
+                    public Object get() {
+                        try {
+                            return h.invokeExact(p0.get(), p1.get(), p2.get(), p3.get());
+                        } catch (Throwable e) {
+                            throw new FeatherException(String.format(failure, key), e);
+                        }
+                    }
+                };
+            }
+            default: {
+                return new Invocation(h, dependencies, key, failure) {
+                    @Override
+                    public Object get() {
+                        return invoke(Feather.params(paramProviders));
+                    }
+                };
             }
-            current = current.getSuperclass();
         }
-        return providers;
     }
 
-    private static Annotation qualifier(Annotation[] annotations) {
-        for (Annotation annotation : annotations) {
-            if (annotation.annotationType().isAnnotationPresent(Qualifier.class)) {
-                return annotation;
-            }
+    /**
+     * @return the future value of provider, constructed on executor if provider supports it and on the
+     * calling thread otherwise, as scopes other than {@code @Singleton} may depend on it
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> CompletableFuture<T> async(Provider<T> provider, Executor executor) {
+        if (provider instanceof AsyncProvider) {
+            return ((AsyncProvider<T>) provider).getAsync(executor);
+        }
+        try {
+            return CompletableFuture.completedFuture(provider.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
         }
-        return null;
     }
 
-    private static boolean providerInSubClass(Method method, Set<Method> discoveredMethods) {
-        for (Method discovered : discoveredMethods) {
-            if (discovered.getName().equals(method.getName()) && Arrays.equals(method.getParameterTypes(), discovered.getParameterTypes())) {
-                return true;
+    private static <T> T join(CompletableFuture<T> future, Key<?> key, String failure) {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+            if (cause instanceof FeatherException featherException) {
+                throw featherException;
             }
+            throw new FeatherException(String.format(failure, key), cause);
         }
-        return false;
     }
 
     /**
@@ -164,7 +256,7 @@ public final class Feather implements DependencyInjector {
      */
     @Override
     public <T> T instance(Class<T> type) {
-        return provider(Key.of(type), null).get();
+        return lookup(Key.of(type)).get();
     }
 
     /**
@@ -172,7 +264,7 @@ public final class Feather implements DependencyInjector {
      */
     @Override
     public <T> T instance(Key<T> key) {
-        return provider(key, null).get();
+        return lookup(key).get();
     }
 
     /**
@@ -180,7 +272,7 @@ public final class Feather implements DependencyInjector {
      */
     @Override
     public <T> Provider<T> provider(Class<T> type) {
-        return provider(Key.of(type), null);
+        return lookup(Key.of(type));
     }
 
     /**
@@ -188,7 +280,43 @@ public final class Feather implements DependencyInjector {
      */
     @Override
     public <T> Provider<T> provider(Key<T> key) {
-        return provider(key, null);
+        return lookup(key);
+    }
+
+    /**
+     * Creates a child injector which sees every binding and singleton of this injector and adds the bindings of
+     * modules. Lookups through the child prefer its own bindings. Types first bound just in time through the child
+     * are bound in the root-most injector whose bindings satisfy their dependencies, so a {@link Singleton} depending
+     * only on what this injector binds is a singleton of this injector, shared by all its children, while one
+     * depending on the child's bindings is a singleton of that child.
+     */
+    @Override
+    public Feather child(Object... modules) {
+        DependencyInjector.Builder builder = DependencyInjector.builder();
+        for (Object module : modules) {
+            builder.module(module);
+        }
+        return new Feather(this, builder);
+    }
+
+    /**
+     * @return the future instance specified by key, constructing its dependencies concurrently on virtual threads
+     */
+    @Override
+    public <T> CompletableFuture<T> instanceAsync(Key<T> key) {
+        return instanceAsync(key, VIRTUAL_THREADS);
+    }
+
+    /**
+     * @return the future instance specified by key, constructing its dependencies concurrently on executor
+     */
+    @Override
+    public <T> CompletableFuture<T> instanceAsync(Key<T> key, Executor executor) {
+        try {
+            return async(lookup(key), executor);
+        } catch (FeatherException e) {
+            return CompletableFuture.failedFuture(e);
+        }
     }
 
     /**
@@ -196,92 +324,1105 @@ public final class Feather implements DependencyInjector {
      */
     @Override
     public void injectFields(Object target) {
-        if (!injectFields.containsKey(target.getClass())) {
-            injectFields.put(target.getClass(), injectFields(target.getClass()));
+        for (FieldInjector f : fieldInjectors(target.getClass())) {
+            try {
+                f.setter.invokeExact(target, f.value().get());
+            } catch (Throwable e) {
+                throw new FeatherException(String.format("Can't inject field %s in %s", f.field.getName(), target.getClass().getName()), e);
+            }
+        }
+    }
+
+    @Override
+    public void injectFieldsAll(Collection<?> targets) {
+        Object[] array = targets.toArray();
+        injectFields(array, 0, array.length);
+    }
+
+    @Override
+    public void injectFieldsAll(Object... targets) {
+        injectFields(targets, 0, targets.length);
+    }
+
+    @Override
+    public void injectFieldsAll(Collection<?> targets, ForkJoinPool pool) {
+        Object[] array = targets.toArray();
+        if (array.length <= FIELD_INJECTION_BATCH) {
+            injectFields(array, 0, array.length);
+        } else {
+            pool.invoke(new FieldInjection(array, 0, array.length));
         }
-        for (Object[] f : injectFields.get(target.getClass())) {
-            Field field = (Field) f[0];
-            Key<?> key = (Key<?>) f[2];
+    }
+
+    /**
+     * Injects fields to targets[from, to), resolving the providers of each class's fields once
+     */
+    private void injectFields(Object[] targets, int from, int to) {
+        Map<Class<?>, Provider<?>[]> resolved = new HashMap<>();
+        for (int i = from; i < to; ++i) {
+            Object target = targets[i];
+            FieldInjector[] fs = fieldInjectors(target.getClass());
+            Provider<?>[] values = resolved.computeIfAbsent(target.getClass(), type -> resolve(fs, type));
+            for (int j = 0; j < fs.length; ++j) {
+                try {
+                    fs[j].setter.invokeExact(target, values[j].get());
+                } catch (Throwable e) {
+                    throw new FeatherException(String.format("Can't inject field %s in %s", fs[j].field.getName(), target.getClass().getName()), e);
+                }
+            }
+        }
+    }
+
+    private static Provider<?>[] resolve(FieldInjector[] fs, Class<?> type) {
+        Provider<?>[] values = new Provider<?>[fs.length];
+        for (int i = 0; i < fs.length; ++i) {
             try {
-                field.set(target, (boolean) f[1] ? provider(key) : instance(key));
-            } catch (Exception e) {
-                throw new FeatherException(String.format("Can't inject field %s in %s", field.getName(), target.getClass().getName()), e);
+                values[i] = fs[i].value();
+            } catch (FeatherException e) {
+                throw new FeatherException(String.format("Can't inject field %s in %s", fs[i].field.getName(), type.getName()), e);
+            }
+        }
+        return values;
+    }
+
+    private FieldInjector[] fieldInjectors(Class<?> target) {
+        FieldInjector[] fs = fieldInjectors.get(target);
+        return fs != null ? fs : fieldInjectors.computeIfAbsent(target, this::injectFields);
+    }
+
+    private FieldInjector[] injectFields(Class<?> target) {
+        Metadata.InjectedField[] fields = Metadata.injectedFields(target);
+        FieldInjector[] fs = new FieldInjector[fields.length];
+        for (int i = 0; i < fields.length; ++i) {
+            Metadata.InjectionPoint value = fields[i].value();
+            fs[i] = new FieldInjector(fields[i].field(), fields[i].setter(), new Dependency(null, value.key(), value.provider(), value.lazy()));
+        }
+        return fs;
+    }
+
+    /**
+     * Injects fields to a range of targets, forking halves until the range is small enough to inject in place
+     */
+    @SuppressWarnings("serial")
+    private final class FieldInjection extends RecursiveAction {
+        private final Object[] targets;
+        private final int from;
+        private final int to;
+
+        private FieldInjection(Object[] targets, int from, int to) {
+            this.targets = targets;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= FIELD_INJECTION_BATCH) {
+                injectFields(targets, from, to);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new FieldInjection(targets, from, middle), new FieldInjection(targets, middle, to));
             }
         }
     }
 
     @SuppressWarnings("unchecked")
-    private <T> Provider<T> provider(final Key<T> key, Set<Key<?>> chain) {
-        if (!providers.containsKey(key)) {
-            final Constructor<?> constructor = constructor(key);
-            final Provider<?>[] paramProviders = paramProviders(key, constructor.getParameterTypes(), constructor.getGenericParameterTypes(), constructor.getParameterAnnotations(), chain);
-            providers.put(key, singletonProvider(key, key.type.getAnnotation(Singleton.class), () -> {
-                        try {
-                            return constructor.newInstance(params(paramProviders));
-                        } catch (Exception e) {
-                            throw new FeatherException(String.format("Can't instantiate %s", key), e);
-                        }
-                    })
-            );
+    private <T> Provider<T> lookup(final Key<T> key) {
+        Provider<?> provider = providers.get(key);
+        for (Feather ancestor = parent; provider == null && ancestor != null; ancestor = ancestor.parent) {
+            provider = ancestor.providers.get(key);
+        }
+        if (provider == null) {
+            provider = (parent != null ? owner(key) : this).create(key);
+        }
+        return (Provider<T>) provider;
+    }
+
+    /**
+     * Binds key just in time in this injector
+     */
+    private Provider<?> create(final Key<?> key) {
+        // creating a binding only inspects the class and never runs user code, so it is safe to do under the
+        // map's lock; the listener is user code, so it's told once the lock is released, by the creating thread
+        final long[] created = listener != null ? new long[]{-1} : null;
+        Provider<?> provider = providers.computeIfAbsent(key, k -> {
+            if (created == null) {
+                return constructorProvider(key);
+            }
+            long start = System.nanoTime();
+            Provider<?> binding = constructorProvider(key);
+            created[0] = System.nanoTime() - start;
+            return binding;
+        });
+        if (created != null && created[0] >= 0) {
+            listener.bindingCreated(key, created[0]);
+        }
+        return provider;
+    }
+
+    /**
+     * Finds the root-most injector, among this one and its ancestors, whose bindings satisfy the just-in-time
+     * binding of key, as Guice does. A binding depends on the injector which binds one of its dependencies, or
+     * one of theirs when they are bound just in time as well, nearest to this one. Types that can't be bound
+     * just in time are left to this injector, to fail here. Walks the dependencies iteratively, as provisioning
+     * does, and counts the keys on the current path as satisfied anywhere.
+     */
+    private Feather owner(final Key<?> key) {
+        List<Feather> injectors = new ArrayList<>();
+        for (Feather injector = this; injector != null; injector = injector.parent) {
+            injectors.add(0, injector);
+        }
+        Map<Key<?>, Integer> depths = new HashMap<>();
+        Deque<Owner> path = new ArrayDeque<>();
+        Integer depth = depth(key, injectors, depths, path);
+        while (!path.isEmpty()) {
+            Owner owner = path.peek();
+            if (owner.next == owner.parameters.length) {
+                path.pop();
+                depths.put(owner.key, owner.depth);
+                if (!path.isEmpty()) {
+                    path.peek().depth = Math.max(path.peek().depth, owner.depth);
+                }
+                continue;
+            }
+            Key<?> dependency = owner.parameters[owner.next++].key();
+            Integer known = depths.containsKey(dependency) ? depths.get(dependency) : depth(dependency, injectors, depths, path);
+            if (known != null) {
+                owner.depth = Math.max(owner.depth, known);
+            }
+        }
+        return injectors.get(depth != null ? depth : depths.get(key));
+    }
+
+    /**
+     * @return the depth of the injector key depends on, from the root, or null if that depends on the constructor
+     * parameters of key, which are pushed onto path to visit
+     */
+    private static Integer depth(Key<?> key, List<Feather> injectors, Map<Key<?>, Integer> depths, Deque<Owner> path) {
+        for (int i = injectors.size() - 1; i >= 0; --i) {
+            if (injectors.get(i).providers.containsKey(key)) {
+                depths.put(key, i);
+                return i;
+            }
+        }
+        Metadata.InjectionPoint[] parameters;
+        try {
+            parameters = Metadata.constructor(key).parameters();
+        } catch (FeatherException e) {
+            depths.put(key, injectors.size() - 1);
+            return injectors.size() - 1;
+        }
+        if (parameters.length == 0) {
+            depths.put(key, 0);
+            return 0;
         }
-        return (Provider<T>) providers.get(key);
+        depths.put(key, 0);
+        path.push(new Owner(key, parameters));
+        return null;
     }
 
-    private void providerMethod(final Object module, final Method m) {
-        final Key<?> key = Key.of(m.getReturnType(), qualifier(m.getAnnotations()));
+    /**
+     * A key on the path of {@link #owner(Key)}, with the deepest injector its parameters visited so far depend on
+     */
+    private static final class Owner {
+        private final Key<?> key;
+        private final Metadata.InjectionPoint[] parameters;
+        private int next;
+        private int depth;
+
+        private Owner(Key<?> key, Metadata.InjectionPoint[] parameters) {
+            this.key = key;
+            this.parameters = parameters;
+        }
+    }
+
+    /**
+     * Creates every binding reachable from roots and resolves their dependencies, so that missing bindings,
+     * ambiguous constructors and circular dependencies surface here rather than on first use. Walks the graph
+     * depth first, keeping the current path to detect cycles, and reports every problem found at once.
+     *
+     * @param finished receives the keys linked in post-order, each after the keys it depends on
+     * @return the keys linked, in the order they were reached
+     */
+    private Set<Key<?>> validate(Collection<Key<?>> roots, List<Key<?>> finished) {
+        List<String> problems = new ArrayList<>();
+        // false while the key is on the current path, true once all its dependencies were visited
+        Map<Key<?>, Boolean> visited = new LinkedHashMap<>();
+        Deque<Key<?>> pending = new ArrayDeque<>(roots);
+        List<Visit> path = new ArrayList<>();
+        while (!pending.isEmpty()) {
+            Key<?> root = pending.pop();
+            if (!visited.containsKey(root)) {
+                visit(root, path, visited, problems);
+            }
+            while (!path.isEmpty()) {
+                Visit visit = path.get(path.size() - 1);
+                if (visit.next == visit.dependencies.length) {
+                    visited.put(visit.key, true);
+                    finished.add(visit.key);
+                    path.remove(path.size() - 1);
+                    continue;
+                }
+                Dependency dependency = visit.dependencies[visit.next++];
+                Boolean done = visited.get(dependency.key);
+                if (dependency.injectsProvider) {
+                    // a provider breaks cycles, but what it provides must still be bound
+                    pending.push(dependency.key);
+                } else if (done == null) {
+                    visit(dependency.key, path, visited, problems);
+                } else if (!done) {
+                    problems.add(String.format("Circular dependency: %s", cycle(path, dependency.key)));
+                }
+            }
+        }
+        if (!problems.isEmpty()) {
+            throw new FeatherException(String.format("Invalid dependency graph:%n  %s", String.join(String.format("%n  "), problems)));
+        }
+        for (Key<?> key : visited.keySet()) {
+            for (Dependency dependency : dependencies.getOrDefault(key, NO_DEPENDENCIES)) {
+                dependency.get();
+            }
+        }
+        return visited.keySet();
+    }
+
+    private void visit(Key<?> key, List<Visit> path, Map<Key<?>, Boolean> visited, List<String> problems) {
+        visited.put(key, false);
+        try {
+            lookup(key);
+            path.add(new Visit(key, dependencies.getOrDefault(key, NO_DEPENDENCIES)));
+        } catch (FeatherException e) {
+            problems.add(path.isEmpty() ? e.getMessage() : String.format("%s, required by %s", e.getMessage(), path.get(path.size() - 1).key));
+            visited.put(key, true);
+        }
+    }
+
+    private static String cycle(List<Visit> path, Key<?> key) {
+        StringBuilder cycle = new StringBuilder();
+        boolean inCycle = false;
+        for (Visit visit : path) {
+            inCycle |= visit.key.equals(key);
+            if (inCycle) {
+                cycle.append(visit.key).append(" -> ");
+            }
+        }
+        return cycle.append(key).toString();
+    }
+
+    /**
+     * A binding on the path being validated, and the index of its next dependency to visit
+     */
+    private static final class Visit {
+        private final Key<?> key;
+        private final Dependency[] dependencies;
+        private int next;
+
+        private Visit(Key<?> key, Dependency[] dependencies) {
+            this.key = key;
+            this.dependencies = dependencies;
+        }
+    }
+
+    /**
+     * Instantiates every linked singleton on executor. A singleton is scheduled once the singletons it depends on
+     * are constructed, so independent ones are built concurrently and none blocks waiting for another's lock.
+     * Keys are visited after the keys they depend on, so each one's future is composed from those of its
+     * dependencies without walking the graph again: an unscoped binding's future completes when the singletons
+     * it reaches are constructed, and a singleton's once it's constructed too.
+     *
+     * @param validated the keys linked by validation, each after the keys it depends on
+     */
+    private void warmUp(List<Key<?>> validated, Executor executor) {
+        Map<Key<?>, CompletableFuture<?>> futures = new HashMap<>();
+        List<CompletableFuture<?>> singletons = new ArrayList<>();
+        CompletableFuture<?> none = CompletableFuture.completedFuture(null);
+        for (Key<?> key : validated) {
+            List<CompletableFuture<?>> dependencies = new ArrayList<>();
+            for (Dependency dependency : this.dependencies.getOrDefault(key, NO_DEPENDENCIES)) {
+                CompletableFuture<?> future = dependency.injectsProvider ? null : futures.get(dependency.key);
+                if (future != null && future != none && !dependencies.contains(future)) {
+                    dependencies.add(future);
+                }
+            }
+            CompletableFuture<?> ready = dependencies.isEmpty() ? none :
+                    dependencies.size() == 1 ? dependencies.get(0) :
+                    CompletableFuture.allOf(dependencies.toArray(new CompletableFuture<?>[0]));
+            Provider<?> provider = providers.get(key);
+            if (provider instanceof SingletonProvider) {
+                ready = ready.thenRunAsync(provider::get, executor);
+                singletons.add(ready);
+            }
+            futures.put(key, ready);
+        }
+        try {
+            CompletableFuture.allOf(singletons.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new FeatherException("Can't instantiate singletons eagerly", e.getCause());
+        }
+    }
+
+    private Provider<?> constructorProvider(final Key<?> key) {
+        if (multibinding(key)) {
+            throw new FeatherException(String.format("%s has no contributions, declare it with DependencyInjector.Builder.multibinding to bind it empty", key));
+        }
+        final Metadata.Injectable constructor = Metadata.constructor(key);
+        final Dependency[] dependencies = new Dependency[constructor.parameters().length];
+        final Provider<?>[] paramProviders = paramProviders(key, constructor.parameters(), dependencies);
+        this.dependencies.put(key, dependencies);
+        return scopedProvider(key, constructor.scope(), invoker(constructor.factory(), paramProviders, dependencies, key, "Can't instantiate %s"));
+    }
+
+    /**
+     * @return whether key is a {@code Set<E>} or {@code Map<String, V>}, which contributions may bind
+     */
+    static boolean multibinding(Key<?> key) {
+        return key.genericType instanceof ParameterizedType parameterized
+                && (key.type == Set.class || key.type == Map.class && parameterized.getActualTypeArguments()[0] == String.class);
+    }
+
+    private void providerMethod(final Object module, final Metadata.ProviderMethod m) {
+        final Key<?> key = m.key();
         if (providers.containsKey(key)) {
             throw new FeatherException(String.format("%s has multiple providers, module %s", key, module.getClass()));
         }
-        Singleton singleton = m.getAnnotation(Singleton.class) != null ? m.getAnnotation(Singleton.class) : m.getReturnType().getAnnotation(Singleton.class);
-        final Provider<?>[] paramProviders = paramProviders(
-                key,
-                m.getParameterTypes(),
-                m.getGenericParameterTypes(),
-                m.getParameterAnnotations(),
-                Collections.singleton(key)
-        );
-        providers.put(key, singletonProvider(key, singleton, () -> {
-                            try {
-                                return m.invoke(module, params(paramProviders));
-                            } catch (Exception e) {
-                                throw new FeatherException(String.format("Can't instantiate %s with provider", key), e);
-                            }
-                        }
-                )
-        );
+        providers.put(key, moduleProvider(module, m));
+    }
+
+    private Provider<?> moduleProvider(final Object module, final Metadata.ProviderMethod m) {
+        final Key<?> key = m.key();
+        final Dependency[] dependencies = new Dependency[m.parameters().length];
+        final Provider<?>[] paramProviders = paramProviders(key, m.parameters(), dependencies);
+        this.dependencies.put(key, dependencies);
+        final Invocation invocation = invoker(m.factory(module), paramProviders, dependencies, key, "Can't instantiate %s with provider");
+        return scopedProvider(key, m.scope(), m.future() ? new FutureInvocation(invocation) : invocation);
+    }
+
+    /**
+     * Binds the provider methods the index lists for module. When the graph is checked at build, every method
+     * is needed right away, and so is looked up by its signature immediately. Otherwise, methods whose key the
+     * index spells out are bound without reflection, and looked up on first use.
+     */
+    private void indexed(final Object module, BindingIndex.Entry[] entries) {
+        if (generated(module)) {
+            return;
+        }
+        ClassLoader loader = module.getClass().getClassLoader();
+        for (BindingIndex.Entry entry : entries) {
+            Key<?> key = validating ? null : entry.key(loader);
+            if (key == null) {
+                Metadata.ProviderMethod m = Metadata.provider(entry.method(loader));
+                if (m.contribution() != null) {
+                    contribution(module, m);
+                } else {
+                    providerMethod(module, m);
+                }
+            } else if (providers.containsKey(key)) {
+                throw new FeatherException(String.format("%s has multiple providers, module %s", key, module.getClass()));
+            } else {
+                providers.put(key, new Indexed(module, entry, key));
+            }
+        }
     }
 
+    /**
+     * Binds the provider methods of module through the injector generated for it, if it has one, which calls them
+     * directly with the dependencies they declare, rather than through method handles found by reflection
+     *
+     * @return whether module was bound
+     */
+    private boolean generated(final Object module) {
+        Method generated = BindingIndex.generated(module.getClass());
+        if (generated == null) {
+            return false;
+        }
+        DependencyInjector.Builder builder = DependencyInjector.builder();
+        try {
+            generated.invoke(null, builder, module);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new FeatherException(String.format("Can't bind %s through %s", module.getClass().getName(), generated.getDeclaringClass().getName()), e);
+        }
+        for (Binding binding : builder.bindings) {
+            if (providers.containsKey(binding.key())) {
+                throw new FeatherException(String.format("%s has multiple providers, module %s", binding.key(), module.getClass()));
+            }
+            binding(binding);
+        }
+        return true;
+    }
+
+    private void contribution(final Object module, final Metadata.ProviderMethod m) {
+        final Key<?> key = m.key();
+        Multibinding multibinding = multibindings.computeIfAbsent(key, this::inherited);
+        String mapKey = m.contribution().mapKey();
+        if (mapKey != null && multibinding.mapKeys.contains(mapKey)) {
+            throw new FeatherException(String.format("%s has multiple contributions for \"%s\", module %s", key, mapKey, module.getClass()));
+        }
+        final Dependency[] dependencies = new Dependency[m.parameters().length];
+        final Provider<?>[] paramProviders = paramProviders(key, m.parameters(), dependencies);
+        final Invocation invocation = invoker(m.factory(module), paramProviders, dependencies, key, "Can't instantiate %s with provider");
+        multibinding.mapKeys.add(mapKey);
+        multibinding.elements.add(scopedProvider(key, Key.element(key, multibinding.elements.size()), m.scope(), m.future() ? new FutureInvocation(invocation) : invocation));
+        multibinding.dependencies.addAll(Arrays.asList(dependencies));
+    }
+
+    /**
+     * @return the contributions the nearest ancestor has to key, which those of this injector extend
+     */
+    private Multibinding inherited(Key<?> key) {
+        Multibinding multibinding = new Multibinding();
+        for (Feather ancestor = parent; ancestor != null; ancestor = ancestor.parent) {
+            Multibinding inherited = ancestor.multibindings.get(key);
+            if (inherited != null) {
+                multibinding.mapKeys.addAll(inherited.mapKeys);
+                multibinding.elements.addAll(inherited.elements);
+                multibinding.dependencies.addAll(inherited.dependencies);
+                break;
+            }
+        }
+        return multibinding;
+    }
+
+    /**
+     * Binds each set or map to its contributions, flattened into an array. A collection of singletons is itself
+     * a singleton, so that looking it up again returns the same collection.
+     */
+    private void multibindings() {
+        for (Map.Entry<Key<?>, Multibinding> entry : multibindings.entrySet()) {
+            final Key<?> key = entry.getKey();
+            if (providers.containsKey(key)) {
+                throw new FeatherException(String.format("%s has multiple providers", key));
+            }
+            final Multibinding multibinding = entry.getValue();
+            final Provider<?>[] elements = multibinding.elements.toArray(new Provider<?>[0]);
+            boolean singleton = true;
+            for (Provider<?> element : elements) {
+                singleton &= element instanceof SingletonProvider;
+            }
+            final Provider<?> provider;
+            if (key.type == Map.class) {
+                final String[] mapKeys = multibinding.mapKeys.toArray(new String[0]);
+                provider = () -> {
+                    Map<String, Object> map = LinkedHashMap.newLinkedHashMap(elements.length);
+                    for (int i = 0; i < elements.length; ++i) {
+                        map.put(mapKeys[i], elements[i].get());
+                    }
+                    return Collections.unmodifiableMap(map);
+                };
+            } else {
+                provider = () -> {
+                    Set<Object> set = LinkedHashSet.newLinkedHashSet(elements.length);
+                    for (Provider<?> element : elements) {
+                        set.add(element.get());
+                    }
+                    return Collections.unmodifiableSet(set);
+                };
+            }
+            dependencies.put(key, multibinding.dependencies.toArray(NO_DEPENDENCIES));
+            providers.put(key, singleton ? new SingletonProvider<>(key, provider) : provider);
+        }
+    }
+
+    private void binding(final Binding binding) {
+        final Key<?> key = binding.key();
+        if (providers.containsKey(key)) {
+            throw new FeatherException(String.format("%s has multiple providers", key));
+        }
+        final Function<Provider<?>[], ?> factory = binding.factory();
+        final Metadata.InjectionPoint[] parameters = new Metadata.InjectionPoint[binding.dependencies().length];
+        for (int i = 0; i < parameters.length; ++i) {
+            parameters[i] = new Metadata.InjectionPoint(binding.dependencies()[i], binding.injectsProvider()[i], false);
+        }
+        final Dependency[] dependencies = new Dependency[parameters.length];
+        final Provider<?>[] paramProviders = paramProviders(key, parameters, dependencies);
+        this.dependencies.put(key, dependencies);
+        providers.put(key, scopedProvider(key, binding.singleton() ? Singleton.class : null, new Factory(factory, paramProviders, dependencies, key, binding.future())));
+    }
+
+    private <T> Provider<T> scopedProvider(final Key<?> key, Class<? extends Annotation> scope, final Provider<T> provider) {
+        return scopedProvider(key, key, scope, provider);
+    }
+
+    /**
+     * @param scoped the key a custom scope keeps instances by, which for a contribution is the contribution's own
+     */
     @SuppressWarnings("unchecked")
-    private <T> Provider<T> singletonProvider(final Key<?> key, Singleton singleton, final Provider<T> provider) {
-        return singleton != null ? () -> (T) singletons.computeIfAbsent(key, k -> provider.get()) : provider;
-    }
-
-    private Provider<?>[] paramProviders(
-            final Key<?> key,
-            Class<?>[] parameterClasses,
-            Type[] parameterTypes,
-            Annotation[][] annotations,
-            final Set<Key<?>> chain
-    ) {
-        Provider<?>[] providers = new Provider<?>[parameterTypes.length];
-        for (int i = 0; i < parameterTypes.length; ++i) {
-            Class<?> parameterClass = parameterClasses[i];
-            Annotation qualifier = qualifier(annotations[i]);
-            Class<?> providerType = Provider.class.equals(parameterClass) ?
-                    (Class<?>) ((ParameterizedType) parameterTypes[i]).getActualTypeArguments()[0] :
-                    null;
-            if (providerType == null) {
-                final Key<?> newKey = Key.of(parameterClass, qualifier);
-                final Set<Key<?>> newChain = append(chain, key);
-                if (newChain.contains(newKey)) {
-                    throw new FeatherException(String.format("Circular dependency: %s", chain(newChain, newKey)));
+    private <T> Provider<T> scopedProvider(final Key<?> key, final Key<?> scoped, Class<? extends Annotation> scope, final Provider<T> provider) {
+        if (scope == null) {
+            return instrumented(key, false, provider);
+        } else if (scope == Singleton.class) {
+            return new SingletonProvider<>(key, instrumented(key, true, provider));
+        }
+        Scope implementation = scopes.get(scope);
+        if (implementation == null) {
+            throw new FeatherException(String.format("%s is annotated with %s, which has no scope bound", key, scope.getName()));
+        }
+        return new Scoped<>(implementation, (Key<T>) scoped, instrumented(key, false, provider));
+    }
+
+    private <T> Provider<T> instrumented(final Key<?> key, final boolean singleton, final Provider<T> provider) {
+        return listener == null ? provider : new Instrumented<>(key, singleton, provider, listener);
+    }
+
+    private static ProvisionListener listener(List<ProvisionListener> listeners) {
+        if (listeners.isEmpty()) {
+            return null;
+        } else if (listeners.size() == 1) {
+            return listeners.get(0);
+        }
+        final ProvisionListener[] all = listeners.toArray(new ProvisionListener[0]);
+        return new ProvisionListener() {
+            @Override
+            public void bindingCreated(Key<?> key, long nanos) {
+                for (ProvisionListener listener : all) {
+                    listener.bindingCreated(key, nanos);
+                }
+            }
+
+            @Override
+            public void provisioned(Key<?> key, long nanos) {
+                for (ProvisionListener listener : all) {
+                    listener.provisioned(key, nanos);
+                }
+            }
+
+            @Override
+            public void singletonInitialized(Key<?> key, long nanos) {
+                for (ProvisionListener listener : all) {
+                    listener.singletonInitialized(key, nanos);
                 }
-                providers[i] = () -> provider(newKey, newChain).get();
+            }
+        };
+    }
+
+    private Provider<?>[] paramProviders(final Key<?> key, Metadata.InjectionPoint[] parameters, Dependency[] dependencies) {
+        Provider<?>[] providers = new Provider<?>[parameters.length];
+        for (int i = 0; i < parameters.length; ++i) {
+            final Key<?> newKey = parameters[i].key();
+            if (!parameters[i].provider()) {
+                final Dependency dependency = new Dependency(key, newKey, false, false);
+                dependencies[i] = dependency;
+                providers[i] = dependency::value;
             } else {
-                final Key<?> newKey = Key.of(providerType, qualifier);
-                providers[i] = () -> provider(newKey, null);
+                final Dependency dependency = new Dependency(key, newKey, true, parameters[i].lazy());
+                dependencies[i] = dependency;
+                providers[i] = dependency::deferred;
             }
         }
         return providers;
     }
+
+    /**
+     * The contributions to a set or map, in module order. For a set, mapKeys holds nulls.
+     */
+    private static final class Multibinding {
+        private final List<String> mapKeys = new ArrayList<>();
+        private final List<Provider<?>> elements = new ArrayList<>();
+        private final List<Dependency> dependencies = new ArrayList<>();
+    }
+
+    /**
+     * A parameter's binding, looked up on first use and reused afterwards. Until the value has been provided
+     * once, provisions through it are tracked on the thread's {@link Resolution} to detect cycles. Once it has,
+     * everything it depends on was provided without reaching it again, so it can't be part of a cycle.
+     */
+    private final class Dependency implements Provider<Provider<?>> {
+        private final Key<?> owner;
+        private final Key<?> key;
+        private final boolean injectsProvider;
+        private final boolean lazy;
+        private volatile Provider<?> provider;
+        private volatile boolean acyclic;
+
+        /**
+         * @param owner the key of the binding with the dependency, or null for a field
+         */
+        private Dependency(Key<?> owner, Key<?> key, boolean injectsProvider, boolean lazy) {
+            this.owner = owner;
+            this.key = key;
+            this.injectsProvider = injectsProvider;
+            this.lazy = lazy;
+            // the graph was just checked for cycles
+            this.acyclic = validating;
+        }
+
+        private Object value() {
+            Provider<?> p = get();
+            if (acyclic) {
+                return p.get();
+            }
+            Resolution resolution = RESOLUTION.get();
+            int depth = resolution.enter(owner, key);
+            try {
+                Object value = p.get();
+                acyclic = true;
+                return value;
+            } finally {
+                resolution.exit(depth);
+            }
+        }
+
+        private CompletableFuture<?> async(Executor executor) {
+            Provider<?> p = get();
+            if (acyclic) {
+                return Feather.async(p, executor);
+            }
+            // the futures of the dependencies are all composed on this thread, before any is constructed
+            Resolution resolution = RESOLUTION.get();
+            int depth = resolution.enter(owner, key);
+            try {
+                CompletableFuture<?> future = Feather.async(p, executor);
+                acyclic = true;
+                return future;
+            } finally {
+                resolution.exit(depth);
+            }
+        }
+
+        /**
+         * @return what's injected in place of the value: its provider or, constructing nothing yet, a {@link Lazy}
+         */
+        private Object deferred() {
+            return lazy ? new Memoized<>(() -> get().get()) : get();
+        }
+
+        @Override
+        public Provider<?> get() {
+            Provider<?> p = provider;
+            if (p == null) {
+                p = lookup(key);
+                provider = p;
+            }
+            return p;
+        }
+    }
+
+    /**
+     * The keys a thread is providing through dependencies not yet known to be acyclic, outermost first. Each
+     * dependency pushes and pops its key in constant time, so detecting cycles is linear in the depth of the graph.
+     */
+    private static final class Resolution {
+        private final List<Key<?>> path = new ArrayList<>();
+        private final Map<Key<?>, Integer> positions = new HashMap<>();
+
+        /**
+         * Pushes owner, unless it's on top already, and key
+         *
+         * @return the depth to return to on {@link #exit(int)}
+         * @throws FeatherException if either is on the path already, which would never terminate
+         */
+        private int enter(Key<?> owner, Key<?> key) {
+            int depth = path.size();
+            try {
+                if (owner != null && (depth == 0 || path.get(depth - 1) != owner)) {
+                    push(owner);
+                }
+                push(key);
+            } catch (FeatherException e) {
+                exit(depth);
+                throw e;
+            }
+            return depth;
+        }
+
+        private void push(Key<?> key) {
+            Integer position = positions.putIfAbsent(key, path.size());
+            if (position != null) {
+                StringBuilder cycle = new StringBuilder();
+                for (Key<?> k : path.subList(position, path.size())) {
+                    cycle.append(k).append(" -> ");
+                }
+                throw new FeatherException(String.format("Circular dependency: %s", cycle.append(key)));
+            }
+            path.add(key);
+        }
+
+        private void exit(int depth) {
+            for (int i = path.size() - 1; i >= depth; --i) {
+                positions.remove(path.remove(i));
+            }
+        }
+    }
+
+    /**
+     * A provider method listed in the binding index, looked up by its signature and wired on first use
+     */
+    private final class Indexed implements AsyncProvider<Object> {
+        private final Object module;
+        private final BindingIndex.Entry entry;
+        private final Key<?> key;
+        private volatile Provider<?> provider;
+
+        private Indexed(Object module, BindingIndex.Entry entry, Key<?> key) {
+            this.module = module;
+            this.entry = entry;
+            this.key = key;
+        }
+
+        @Override
+        public Object get() {
+            return resolved().get();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public CompletableFuture<Object> getAsync(Executor executor) {
+            return async((Provider<Object>) resolved(), executor);
+        }
+
+        private Provider<?> resolved() {
+            Provider<?> p = provider;
+            if (p == null) {
+                // only reflects on the method, never running user code
+                synchronized (this) {
+                    p = provider;
+                    if (p == null) {
+                        Metadata.ProviderMethod m = Metadata.provider(entry.method(module.getClass().getClassLoader()));
+                        if (m.contribution() != null || m.key() != key) {
+                            throw new FeatherException(String.format("Provider method %s of %s doesn't bind %s as %s says; rebuild the index", entry.method(), entry.declaringClass(), key, BindingIndex.RESOURCE));
+                        }
+                        p = moduleProvider(module, m);
+                        provider = p;
+                    }
+                }
+            }
+            return p;
+        }
+    }
+
+    /**
+     * A binding provided through a custom scope, which is asked to scope it on its first provision rather than
+     * when it's created, as bindings created just in time are created under the lock of the providers map
+     */
+    private static final class Scoped<T> implements Provider<T> {
+        private final Scope scope;
+        private final Key<T> key;
+        private final Provider<T> unscoped;
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile Provider<T> scoped;
+
+        private Scoped(Scope scope, Key<T> key, Provider<T> unscoped) {
+            this.scope = scope;
+            this.key = key;
+            this.unscoped = unscoped;
+        }
+
+        @Override
+        public T get() {
+            Provider<T> provider = scoped;
+            if (provider == null) {
+                lock.lock();
+                try {
+                    provider = scoped;
+                    if (provider == null) {
+                        provider = scope.scope(key, unscoped);
+                        scoped = provider;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+            return provider.get();
+        }
+    }
+
+    /**
+     * A provider which can also construct its instance without blocking the calling thread
+     */
+    private interface AsyncProvider<T> extends Provider<T> {
+        CompletableFuture<T> getAsync(Executor executor);
+    }
+
+    /**
+     * Calls a constructor or provider method. Asynchronously, the values of its parameters are constructed
+     * concurrently, and the call is made on the executor once they are all available.
+     */
+    private abstract static class Invocation implements AsyncProvider<Object> {
+        private final MethodHandle h;
+        private final Dependency[] dependencies;
+        private final Key<?> key;
+        private final String failure;
+        private MethodHandle spread;
+
+        private Invocation(MethodHandle h, Dependency[] dependencies, Key<?> key, String failure) {
+            this.h = h;
+            this.dependencies = dependencies;
+            this.key = key;
+            this.failure = failure;
+        }
+
+        Object invoke(Object[] params) {
+            MethodHandle s = spread;
+            if (s == null) {
+                s = h.asSpreader(Object[].class, dependencies.length);
+                spread = s;
+            }
+            try {
+                return s.invokeExact(params);
+            } catch (Throwable e) {
+                throw new FeatherException(String.format(failure, key), e);
+            }
+        }
+
+        CompletableFuture<Object[]> params(Executor executor) {
+            return Feather.params(dependencies, executor);
+        }
+
+        @Override
+        public CompletableFuture<Object> getAsync(Executor executor) {
+            return params(executor).thenApplyAsync(this::invoke, executor);
+        }
+    }
+
+    /**
+     * @return the future values of dependencies, constructed concurrently, or their providers where those are injected
+     */
+    private static CompletableFuture<Object[]> params(Dependency[] dependencies, Executor executor) {
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[dependencies.length];
+        for (int i = 0; i < futures.length; ++i) {
+            futures[i] = dependencies[i].injectsProvider ?
+                    CompletableFuture.completedFuture(dependencies[i].deferred()) :
+                    dependencies[i].async(executor);
+        }
+        return CompletableFuture.allOf(futures).thenApply(done -> {
+            Object[] params = new Object[futures.length];
+            for (int i = 0; i < futures.length; ++i) {
+                params[i] = futures[i].join();
+            }
+            return params;
+        });
+    }
+
+    /**
+     * Calls a provider method returning a {@link CompletableFuture}, joining it unless provided asynchronously
+     */
+    private static final class FutureInvocation implements AsyncProvider<Object> {
+        private final Invocation invocation;
+
+        private FutureInvocation(Invocation invocation) {
+            this.invocation = invocation;
+        }
+
+        @Override
+        public Object get() {
+            return join((CompletableFuture<?>) invocation.get(), invocation.key, invocation.failure);
+        }
+
+        @Override
+        public CompletableFuture<Object> getAsync(Executor executor) {
+            return invocation.params(executor).thenComposeAsync(params -> composed(invocation.invoke(params), invocation.key, invocation.failure), executor);
+        }
+    }
+
+    /**
+     * @return future, a provider's result, failing with failure if it fails
+     */
+    @SuppressWarnings("unchecked")
+    private static CompletableFuture<Object> composed(Object future, Key<?> key, String failure) {
+        if (future == null) {
+            throw new FeatherException(String.format(failure, key), new NullPointerException("null future"));
+        }
+        return ((CompletableFuture<Object>) future).exceptionally(e -> {
+            throw new FeatherException(String.format(failure, key), e instanceof CompletionException ? e.getCause() : e);
+        });
+    }
+
+    /**
+     * Calls the factory of a binding registered on the builder, with providers of its declared dependencies.
+     * Asynchronously, the dependencies are constructed concurrently and the factory is called on the executor
+     * once they are all available, its future composed rather than joined if it returns one.
+     */
+    private static final class Factory implements AsyncProvider<Object> {
+        private static final String FAILURE = "Can't instantiate %s with provider";
+        private final Function<Provider<?>[], ?> factory;
+        private final Provider<?>[] paramProviders;
+        private final Dependency[] dependencies;
+        private final Key<?> key;
+        private final boolean future;
+
+        private Factory(Function<Provider<?>[], ?> factory, Provider<?>[] paramProviders, Dependency[] dependencies, Key<?> key, boolean future) {
+            this.factory = factory;
+            this.paramProviders = paramProviders;
+            this.dependencies = dependencies;
+            this.key = key;
+            this.future = future;
+        }
+
+        @Override
+        public Object get() {
+            Object instance = call(paramProviders);
+            return future ? join((CompletableFuture<?>) instance, key, FAILURE) : instance;
+        }
+
+        @Override
+        public CompletableFuture<Object> getAsync(Executor executor) {
+            CompletableFuture<Provider<?>[]> params = Feather.params(dependencies, executor).thenApply(Factory::provided);
+            return future ?
+                    params.thenComposeAsync(provided -> composed(call(provided), key, FAILURE), executor) :
+                    params.thenApplyAsync(this::call, executor);
+        }
+
+        private Object call(Provider<?>[] providers) {
+            try {
+                return factory.apply(providers);
+            } catch (Throwable e) {
+                throw new FeatherException(String.format(FAILURE, key), e);
+            }
+        }
+
+        /**
+         * @return providers of params, which the factory takes in place of the providers of its dependencies
+         */
+        private static Provider<?>[] provided(Object[] params) {
+            Provider<?>[] providers = new Provider<?>[params.length];
+            for (int i = 0; i < params.length; ++i) {
+                Object param = params[i];
+                providers[i] = () -> param;
+            }
+            return providers;
+        }
+    }
+
+    /**
+     * Reports the time a provider takes to the listener
+     */
+    private static final class Instrumented<T> implements AsyncProvider<T> {
+        private final Key<?> key;
+        private final boolean singleton;
+        private final Provider<T> provider;
+        private final ProvisionListener listener;
+
+        private Instrumented(Key<?> key, boolean singleton, Provider<T> provider, ProvisionListener listener) {
+            this.key = key;
+            this.singleton = singleton;
+            this.provider = provider;
+            this.listener = listener;
+        }
+
+        @Override
+        public T get() {
+            long start = System.nanoTime();
+            T instance = provider.get();
+            report(System.nanoTime() - start);
+            return instance;
+        }
+
+        @Override
+        public CompletableFuture<T> getAsync(Executor executor) {
+            final long start = System.nanoTime();
+            return async(provider, executor).thenApply(instance -> {
+                report(System.nanoTime() - start);
+                return instance;
+            });
+        }
+
+        private void report(long nanos) {
+            if (singleton) {
+                listener.singletonInitialized(key, nanos);
+            } else {
+                listener.provisioned(key, nanos);
+            }
+        }
+    }
+
+    /**
+     * Holds the instance of a single {@code @Singleton} binding. Initialization is guarded by a lock owned
+     * by this binding alone, so constructing one singleton never blocks lookups of unrelated ones, and a
+     * {@link ReentrantLock} rather than a monitor keeps virtual threads from pinning their carrier.
+     * While the instance is being constructed asynchronously, other requests wait for that construction.
+     */
+    private static final class SingletonProvider<T> implements AsyncProvider<T> {
+        private final Key<?> key;
+        private final Provider<T> provider;
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile boolean initialized;
+        private T instance;
+        private CompletableFuture<T> pending;
+
+        private SingletonProvider(Key<?> key, Provider<T> provider) {
+            this.key = key;
+            this.provider = provider;
+        }
+
+        @Override
+        public T get() {
+            if (initialized) {
+                return instance;
+            }
+            CompletableFuture<T> constructing;
+            lock.lock();
+            try {
+                if (initialized) {
+                    return instance;
+                }
+                constructing = pending;
+                if (constructing == null) {
+                    if (lock.getHoldCount() > 1) {
+                        throw new FeatherException(String.format("Circular dependency: %s requested while being constructed", key));
+                    }
+                    instance = provider.get();
+                    initialized = true;
+                    return instance;
+                }
+            } finally {
+                lock.unlock();
+            }
+            return join(constructing, key, "Can't instantiate %s");
+        }
+
+        @Override
+        public CompletableFuture<T> getAsync(Executor executor) {
+            if (initialized) {
+                return CompletableFuture.completedFuture(instance);
+            }
+            lock.lock();
+            try {
+                if (initialized) {
+                    return CompletableFuture.completedFuture(instance);
+                }
+                if (pending == null) {
+                    CompletableFuture<T> constructing = async(provider, executor).handle(this::constructed);
+                    // construction may already have completed on this thread, having nothing left to wait for
+                    if (!constructing.isDone()) {
+                        pending = constructing;
+                    }
+                    return constructing;
+                }
+                return pending;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private T constructed(T value, Throwable failure) {
+            lock.lock();
+            try {
+                pending = null;
+                if (failure != null) {
+                    throw failure instanceof CompletionException completion ? completion : new CompletionException(failure);
+                }
+                if (!initialized) {
+                    instance = value;
+                    initialized = true;
+                }
+                return instance;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * An {@code @Inject} field of a class, with its setter and the provider of the value to write
+     */
+    private record FieldInjector(Field field, MethodHandle setter, Dependency dependency) {
+        /**
+         * @return the provider of the field's value
+         */
+        Provider<?> value() {
+            return dependency.injectsProvider ? dependency::deferred : dependency.acyclic ? dependency.get() : dependency::value;
+        }
+    }
 }
@@ -0,0 +1,79 @@
+package dev.mccue.feather;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+final class FlightRecorderListener implements ProvisionListener {
+    @Override
+    public void bindingCreated(Key<?> key, long nanos) {
+        BindingCreated event = new BindingCreated();
+        if (event.isEnabled()) {
+            event.key = key.toString();
+            event.nanos = nanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void provisioned(Key<?> key, long nanos) {
+        Provisioned event = new Provisioned();
+        if (event.isEnabled()) {
+            event.key = key.toString();
+            event.nanos = nanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void singletonInitialized(Key<?> key, long nanos) {
+        SingletonInitialized event = new SingletonInitialized();
+        if (event.isEnabled()) {
+            event.key = key.toString();
+            event.nanos = nanos;
+            event.commit();
+        }
+    }
+
+    @Name("dev.mccue.feather.BindingCreated")
+    @Label("Binding Created")
+    @Category("Feather")
+    @StackTrace(false)
+    static final class BindingCreated extends Event {
+        @Label("Key")
+        String key;
+
+        @Label("Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long nanos;
+    }
+
+    @Name("dev.mccue.feather.Provisioned")
+    @Label("Provisioned")
+    @Category("Feather")
+    @StackTrace(false)
+    static final class Provisioned extends Event {
+        @Label("Key")
+        String key;
+
+        @Label("Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long nanos;
+    }
+
+    @Name("dev.mccue.feather.SingletonInitialized")
+    @Label("Singleton Initialized")
+    @Category("Feather")
+    @StackTrace(false)
+    static final class SingletonInitialized extends Event {
+        @Label("Key")
+        String key;
+
+        @Label("Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long nanos;
+    }
+}
@@ -0,0 +1,14 @@
+package dev.mccue.feather;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a {@link Provides} method as contributing an entry, under value, to the {@code Map<String, V>} of
+ * its return type and qualifier, instead of binding the type itself. Any number of modules may contribute
+ * to the same map, as long as their entries' keys are distinct.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface IntoMap {
+    String value();
+}
@@ -0,0 +1,12 @@
+package dev.mccue.feather;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a {@link Provides} method as contributing an element to the {@code Set} of its return type and
+ * qualifier, instead of binding the type itself. Any number of modules may contribute to the same set.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface IntoSet {
+}
@@ -2,75 +2,266 @@ package dev.mccue.feather;
 
 import jakarta.inject.Named;
 import java.lang.annotation.Annotation;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Identifies a binding by type, which may be generic, and qualifier. Keys are interned: equal keys are the same
+ * instance, so they compare by identity and their hash code is computed once.
+ */
 public final class Key<T> {
+    private static final ClassValue<Key<?>> KEYS = new ClassValue<>() {
+        @Override
+        protected Key<?> computeValue(Class<?> type) {
+            return new Key<>(new Descriptor(type, null, null, -1));
+        }
+    };
+    /**
+     * Every other key, each the key and value of its entry through a weak reference which is looked up by
+     * descriptor. The references of collected keys are queued in CLEARED, and their entries removed on the
+     * next intern.
+     */
+    private static final Map<Object, Interned> INTERNED = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<Key<?>> CLEARED = new ReferenceQueue<>();
+
     final Class<T> type;
+    /**
+     * The type in canonical form, the same as type unless it has type arguments
+     */
+    final Type genericType;
     final Class<? extends Annotation> qualifier;
     final String name;
+    private final Descriptor descriptor;
+    private final int hashCode;
 
-    private Key(Class<T> type, Class<? extends Annotation> qualifier, String name) {
-        this.type = type;
-        this.qualifier = qualifier;
-        this.name = name;
+    @SuppressWarnings("unchecked")
+    private Key(Descriptor descriptor) {
+        this.descriptor = descriptor;
+        this.type = (Class<T>) Types.raw(descriptor.type);
+        this.genericType = descriptor.type;
+        this.qualifier = descriptor.qualifier;
+        this.name = descriptor.name;
+        this.hashCode = descriptor.hashCode();
     }
 
     /**
-     * @return Key for a given type
+     * @return Key for a given type, shared by all callers asking for the same type
      */
+    @SuppressWarnings("unchecked")
     public static <T> Key<T> of(Class<T> type) {
-        return new Key<>(type, null, null);
+        return (Key<T>) KEYS.get(type);
     }
 
     /**
      * @return Key for a given type and qualifier annotation type
      */
     public static <T> Key<T> of(Class<T> type, Class<? extends Annotation> qualifier) {
-        return new Key<>(type, qualifier, null);
+        return intern(type, qualifier, null);
     }
 
     /**
      * @return Key for a given type and name (@Named value)
      */
     public static <T> Key<T> of(Class<T> type, String name) {
-        return new Key<>(type, Named.class, name);
+        return intern(type, Named.class, name);
+    }
+
+    /**
+     * @return Key for a generic type, captured by a {@link TypeLiteral}
+     */
+    public static <T> Key<T> of(TypeLiteral<T> type) {
+        return intern(type.type, null, null);
+    }
+
+    /**
+     * @return Key for a generic type, captured by a {@link TypeLiteral}, and qualifier annotation type
+     */
+    public static <T> Key<T> of(TypeLiteral<T> type, Class<? extends Annotation> qualifier) {
+        return intern(type.type, qualifier, null);
+    }
+
+    /**
+     * @return Key for a generic type, captured by a {@link TypeLiteral}, and name (@Named value)
+     */
+    public static <T> Key<T> of(TypeLiteral<T> type, String name) {
+        return intern(type.type, Named.class, name);
+    }
+
+    /**
+     * @return Key for any fully specified type, such as one obtained from reflection
+     */
+    public static Key<?> of(Type type) {
+        return intern(type, null, null);
+    }
+
+    /**
+     * @return Key for the set of elements contributed with {@link IntoSet}
+     */
+    public static <T> Key<Set<T>> setOf(Class<T> element) {
+        return intern(Types.parameterized(Set.class, element), null, null);
+    }
+
+    /**
+     * @return Key for the set of elements contributed with {@link IntoSet} and qualifier annotation type
+     */
+    public static <T> Key<Set<T>> setOf(Class<T> element, Class<? extends Annotation> qualifier) {
+        return intern(Types.parameterized(Set.class, element), qualifier, null);
+    }
+
+    /**
+     * @return Key for the set of elements contributed with {@link IntoSet} and name (@Named value)
+     */
+    public static <T> Key<Set<T>> setOf(Class<T> element, String name) {
+        return intern(Types.parameterized(Set.class, element), Named.class, name);
+    }
+
+    /**
+     * @return Key for the map of values contributed with {@link IntoMap}
+     */
+    public static <V> Key<Map<String, V>> mapOf(Class<V> value) {
+        return intern(Types.parameterized(Map.class, String.class, value), null, null);
+    }
+
+    /**
+     * @return Key for the map of values contributed with {@link IntoMap} and qualifier annotation type
+     */
+    public static <V> Key<Map<String, V>> mapOf(Class<V> value, Class<? extends Annotation> qualifier) {
+        return intern(Types.parameterized(Map.class, String.class, value), qualifier, null);
+    }
+
+    /**
+     * @return Key for the map of values contributed with {@link IntoMap} and name (@Named value)
+     */
+    public static <V> Key<Map<String, V>> mapOf(Class<V> value, String name) {
+        return intern(Types.parameterized(Map.class, String.class, value), Named.class, name);
     }
 
-    static <T> Key<T> of(Class<T> type, Annotation qualifier) {
-        if(qualifier == null) {
-            return Key.of(type);
-        } else {
-            return qualifier.annotationType().equals(Named.class) ?
-                    Key.of(type, ((Named) qualifier).value()) :
-                    Key.of(type, qualifier.annotationType());
+    static <T> Key<T> of(Type type, Annotation qualifier) {
+        if (qualifier == null) {
+            return intern(type, null, null);
         }
+        return qualifier.annotationType().equals(Named.class) ?
+                intern(type, Named.class, ((Named) qualifier).value()) :
+                intern(type, qualifier.annotationType(), null);
     }
 
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
+    /**
+     * @return Key for type, qualifier annotation type and name, where name implies {@code @Named}
+     */
+    static <T> Key<T> of(Type type, Class<? extends Annotation> qualifier, String name) {
+        return name != null ? intern(type, Named.class, name) : intern(type, qualifier, null);
+    }
 
-        Key<?> key = (Key<?>) o;
+    /**
+     * @return Key for the element contributed at index to the multibinding of key, which scopes keep apart
+     * from the multibinding's other elements
+     */
+    static <T> Key<T> element(Key<?> key, int index) {
+        return intern(key.genericType, key.qualifier, key.name, index);
+    }
 
-        if (!type.equals(key.type)) return false;
-        if (qualifier != null ? !qualifier.equals(key.qualifier) : key.qualifier != null) return false;
-        return !(name != null ? !name.equals(key.name) : key.name != null);
+    private static <T> Key<T> intern(Type type, Class<? extends Annotation> qualifier, String name) {
+        return intern(type, qualifier, name, -1);
+    }
 
+    @SuppressWarnings("unchecked")
+    private static <T> Key<T> intern(Type type, Class<? extends Annotation> qualifier, String name, int element) {
+        Type canonical = Types.canonical(type);
+        if (canonical instanceof Class<?> c && qualifier == null && element < 0) {
+            return (Key<T>) KEYS.get(c);
+        }
+        for (Reference<?> cleared; (cleared = CLEARED.poll()) != null; ) {
+            INTERNED.remove(cleared);
+        }
+        Descriptor descriptor = new Descriptor(canonical, qualifier, name, element);
+        Key<?> key;
+        do {
+            Interned interned = INTERNED.get(descriptor);
+            key = interned == null ? null : interned.get();
+            if (key == null) {
+                Key<?> created = new Key<>(descriptor);
+                Interned reference = new Interned(created);
+                interned = INTERNED.putIfAbsent(reference, reference);
+                // a key interned concurrently may be collected before it's read, leaving nothing to return
+                key = interned == null ? created : interned.get();
+            }
+        } while (key == null);
+        return (Key<T>) key;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o;
     }
 
     @Override
     public int hashCode() {
-        int result = type.hashCode();
-        result = 31 * result + (qualifier != null ? qualifier.hashCode() : 0);
-        result = 31 * result + (name != null ? name.hashCode() : 0);
-        return result;
+        return hashCode;
     }
 
     @Override
     public String toString() {
         String suffix = name != null ? "@\"" + name + "\"" : qualifier != null ? "@" + qualifier.getSimpleName() : "";
-        return type.getName() + suffix;
+        return (genericType == type ? type.getName() : genericType.getTypeName()) + suffix + (descriptor.element >= 0 ? "[" + descriptor.element + "]" : "");
     }
 
+    /**
+     * @param element the index of the contribution to a multibinding the key stands for, or -1
+     */
+    private record Descriptor(Type type, Class<? extends Annotation> qualifier, String name, int element) {
+        /**
+         * Also equal to the reference interning the key it describes, so it looks that entry up
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (o instanceof Interned interned) {
+                o = interned.descriptor();
+            }
+            return o instanceof Descriptor d && element == d.element && type.equals(d.type) &&
+                    qualifier == d.qualifier && Objects.equals(name, d.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * (31 * type.hashCode() + Objects.hashCode(qualifier)) + Objects.hashCode(name)) + element;
+        }
+    }
 
-}
\ No newline at end of file
+    /**
+     * Interns a key without keeping it reachable. Once the key is collected, the reference equals only itself,
+     * which is how its entry is removed.
+     */
+    private static final class Interned extends WeakReference<Key<?>> {
+        private final int hashCode;
+
+        Interned(Key<?> key) {
+            super(key, CLEARED);
+            hashCode = key.hashCode;
+        }
+
+        Descriptor descriptor() {
+            Key<?> key = get();
+            return key == null ? null : key.descriptor;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            }
+            Descriptor descriptor = descriptor();
+            return descriptor != null && descriptor.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
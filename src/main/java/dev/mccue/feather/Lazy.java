@@ -0,0 +1,20 @@
+package dev.mccue.feather;
+
+import jakarta.inject.Provider;
+
+/**
+ * A value constructed on the first call to {@link #get()}, which every later call returns. Injecting
+ * {@code Lazy<T>} instead of {@code T} defers constructing a rarely used dependency, and its dependencies,
+ * until it's needed. Unlike a {@link Provider}, a Lazy constructs at most one instance, even when called
+ * concurrently.
+ */
+public interface Lazy<T> {
+    T get();
+
+    /**
+     * @return Lazy getting its value from provider on first use
+     */
+    static <T> Lazy<T> of(Provider<T> provider) {
+        return new Memoized<>(provider);
+    }
+}
@@ -0,0 +1,40 @@
+package dev.mccue.feather;
+
+import jakarta.inject.Provider;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+final class Memoized<T> implements Lazy<T> {
+    private final ReentrantLock lock = new ReentrantLock();
+    private Provider<T> provider;
+    private volatile boolean initialized;
+    private T value;
+
+    Memoized(Provider<T> provider) {
+        this.provider = provider;
+    }
+
+    @Override
+    public T get() {
+        if (initialized) {
+            return value;
+        }
+        lock.lock();
+        try {
+            if (!initialized) {
+                value = provider.get();
+                initialized = true;
+                // the provider isn't needed anymore, and may hold on to a lot
+                provider = null;
+            }
+            return value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return initialized ? "Lazy[" + value + "]" : "Lazy[not constructed]";
+    }
+}
@@ -0,0 +1,290 @@
+package dev.mccue.feather;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+import jakarta.inject.Qualifier;
+import jakarta.inject.Scope;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * What Feather learns reflecting on a class, shared by every injector. The caches are {@link ClassValue}s,
+ * which don't keep classes from being unloaded along with their class loader. Failures aren't cached and
+ * are thrown again on the next lookup.
+ */
+final class Metadata {
+    private static final ClassValue<Injectable> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected Injectable computeValue(Class<?> type) {
+            return injectable(type);
+        }
+    };
+    private static final ClassValue<ProviderMethod[]> PROVIDERS = new ClassValue<>() {
+        @Override
+        protected ProviderMethod[] computeValue(Class<?> type) {
+            return providerMethods(type);
+        }
+    };
+    private static final ClassValue<InjectedField[]> FIELDS = new ClassValue<>() {
+        @Override
+        protected InjectedField[] computeValue(Class<?> type) {
+            return fields(type);
+        }
+    };
+
+    private Metadata() {
+    }
+
+    /**
+     * @return the constructor Feather instantiates type with
+     */
+    static Injectable constructor(Key<?> key) {
+        return CONSTRUCTORS.get(key.type);
+    }
+
+    /**
+     * @return the provider methods of module type, including inherited ones it doesn't override
+     */
+    static ProviderMethod[] providers(Class<?> type) {
+        return PROVIDERS.get(type);
+    }
+
+    /**
+     * @return the {@code @Inject} fields of type and its superclasses
+     */
+    static InjectedField[] injectedFields(Class<?> type) {
+        return FIELDS.get(type);
+    }
+
+    /**
+     * A parameter or field to inject, either the value of key or, if provider is set, its provider, which is a
+     * {@link Lazy} if lazy is set
+     */
+    record InjectionPoint(Key<?> key, boolean provider, boolean lazy) {
+    }
+
+    /**
+     * @param factory the constructor, adapted to take and return {@code Object}s
+     * @param scope   the scope annotation of the class, or null
+     */
+    record Injectable(MethodHandle factory, InjectionPoint[] parameters, Class<? extends Annotation> scope) {
+    }
+
+    /**
+     * @param factory      the method adapted to take and return {@code Object}s, taking the module first unless static
+     * @param scope        the scope annotation of the method or else of the provided type, or null
+     * @param future       whether the method returns a {@link CompletableFuture} of the provided type
+     * @param contribution how the method contributes to the set or map of key, or null if it binds key itself
+     */
+    record ProviderMethod(Method method, Key<?> key, MethodHandle factory, InjectionPoint[] parameters, Class<? extends Annotation> scope, boolean future, Contribution contribution) {
+        MethodHandle factory(Object module) {
+            return Modifier.isStatic(method.getModifiers()) ? factory : factory.bindTo(module);
+        }
+    }
+
+    /**
+     * @param mapKey the key of the contributed map entry, or null for a set element
+     */
+    record Contribution(String mapKey) {
+    }
+
+    /**
+     * @param setter a {@code (Object, Object)void} handle writing field
+     */
+    record InjectedField(Field field, MethodHandle setter, InjectionPoint value) {
+    }
+
+    static Annotation qualifier(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation.annotationType().isAnnotationPresent(Qualifier.class)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    static Class<? extends Annotation> scope(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation.annotationType().isAnnotationPresent(Scope.class)) {
+                return annotation.annotationType();
+            }
+        }
+        return null;
+    }
+
+    private static Injectable injectable(Class<?> type) {
+        Constructor<?> inject = null;
+        Constructor<?> noarg = null;
+        for (Constructor<?> c : type.getDeclaredConstructors()) {
+            if (c.isAnnotationPresent(Inject.class)) {
+                if (inject == null) {
+                    inject = c;
+                } else {
+                    throw new FeatherException(String.format("%s has multiple @Inject constructors", type));
+                }
+            } else if (c.getParameterTypes().length == 0) {
+                noarg = c;
+            }
+        }
+        Constructor<?> constructor = inject != null ? inject : noarg;
+        if (constructor == null) {
+            throw new FeatherException(String.format("%s doesn't have an @Inject or no-arg constructor, or a module provider", type.getName()));
+        }
+        constructor.setAccessible(true);
+        try {
+            MethodHandle factory = MethodHandles.lookup().unreflectConstructor(constructor);
+            return new Injectable(
+                    factory.asType(MethodType.genericMethodType(constructor.getParameterCount())),
+                    dependencies(constructor.getParameterTypes(), constructor.getGenericParameterTypes(), constructor.getParameterAnnotations()),
+                    scope(type.getAnnotations())
+            );
+        } catch (IllegalAccessException e) {
+            throw new FeatherException(String.format("Can't access constructor of %s", type.getName()), e);
+        }
+    }
+
+    private static ProviderMethod[] providerMethods(Class<?> type) {
+        Class<?> current = type;
+        List<Method> methods = new ArrayList<>();
+        Set<Signature> signatures = new HashSet<>();
+        while (!current.equals(Object.class)) {
+            for (Method method : current.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Provides.class)) {
+                    Signature signature = new Signature(method.getName(), Arrays.asList(method.getParameterTypes()));
+                    // a provider method a subclass declared with the same signature overrides this one
+                    if (signatures.add(signature) || type.equals(current)) {
+                        methods.add(method);
+                    }
+                }
+            }
+            current = current.getSuperclass();
+        }
+        ProviderMethod[] providers = new ProviderMethod[methods.size()];
+        for (int i = 0; i < providers.length; ++i) {
+            providers[i] = provider(methods.get(i));
+        }
+        return providers;
+    }
+
+    /**
+     * @return what Feather needs to know about a {@link Provides} method
+     */
+    static ProviderMethod provider(Method method) {
+        method.setAccessible(true);
+        boolean future = method.getReturnType().equals(CompletableFuture.class);
+        Type provided = future ? futureType(method) : method.getGenericReturnType();
+        Annotation qualifier = qualifier(method.getAnnotations());
+        IntoMap intoMap = method.getAnnotation(IntoMap.class);
+        Contribution contribution = intoMap != null ? new Contribution(intoMap.value()) :
+                method.isAnnotationPresent(IntoSet.class) ? new Contribution(null) :
+                null;
+        Class<? extends Annotation> scope = scope(method.getAnnotations());
+        if (scope == null) {
+            scope = scope(raw(provided).getAnnotations());
+        }
+        try {
+            MethodHandle factory = MethodHandles.lookup().unreflect(method);
+            return new ProviderMethod(
+                    method,
+                    key(contribution == null ? provided : intoMap != null ? Types.parameterized(Map.class, String.class, provided) : Types.parameterized(Set.class, provided), qualifier),
+                    factory.asType(MethodType.genericMethodType(factory.type().parameterCount())),
+                    dependencies(method.getParameterTypes(), method.getGenericParameterTypes(), method.getParameterAnnotations()),
+                    scope,
+                    future,
+                    contribution
+            );
+        } catch (IllegalAccessException e) {
+            throw new FeatherException(String.format("Can't access provider method %s of %s", method.getName(), method.getDeclaringClass().getName()), e);
+        }
+    }
+
+    private static Type futureType(Method method) {
+        Type type = method.getGenericReturnType() instanceof ParameterizedType future ? future.getActualTypeArguments()[0] : null;
+        if (type instanceof Class<?> || type instanceof ParameterizedType) {
+            return type;
+        }
+        throw new FeatherException(String.format("Provider method %s of %s must return a CompletableFuture of a class", method.getName(), method.getDeclaringClass().getName()));
+    }
+
+    private record Signature(String name, List<Class<?>> parameterTypes) {
+    }
+
+    private static InjectionPoint[] dependencies(Class<?>[] parameterClasses, Type[] parameterTypes, Annotation[][] annotations) {
+        InjectionPoint[] dependencies = new InjectionPoint[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; ++i) {
+            dependencies[i] = dependency(parameterClasses[i], parameterTypes[i], annotations[i]);
+        }
+        return dependencies;
+    }
+
+    private static InjectionPoint dependency(Class<?> type, Type genericType, Annotation[] annotations) {
+        Annotation qualifier = qualifier(annotations);
+        if (Provider.class.equals(type) || Lazy.class.equals(type)) {
+            if (!(genericType instanceof ParameterizedType parameterized)) {
+                throw new FeatherException(String.format("Can't inject %s without a type argument", type.getName()));
+            }
+            return new InjectionPoint(key(parameterized.getActualTypeArguments()[0], qualifier), true, Lazy.class.equals(type));
+        }
+        return new InjectionPoint(key(genericType, qualifier), false, false);
+    }
+
+    /**
+     * @return the key of type, or of its erasure if it has type variables, which keys can't express
+     */
+    private static Key<?> key(Type type, Annotation qualifier) {
+        Class<?> raw = raw(type);
+        return Key.of(Types.hasTypeVariable(type) ? raw : type, qualifier);
+    }
+
+    private static Class<?> raw(Type type) {
+        if (type instanceof Class<?> || type instanceof ParameterizedType || type instanceof GenericArrayType || type instanceof TypeVariable<?>) {
+            return Types.raw(type);
+        }
+        throw new FeatherException(String.format("Can't inject %s, which is not a class", type.getTypeName()));
+    }
+
+    private static InjectedField[] fields(Class<?> type) {
+        Class<?> current = type;
+        List<InjectedField> fields = new ArrayList<>();
+        while (!current.equals(Object.class)) {
+            for (Field field : current.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Inject.class)) {
+                    field.setAccessible(true);
+                    fields.add(new InjectedField(field, setter(field), dependency(field.getType(), field.getGenericType(), field.getAnnotations())));
+                }
+            }
+            current = current.getSuperclass();
+        }
+        return fields.toArray(new InjectedField[0]);
+    }
+
+    private static MethodHandle setter(Field field) {
+        try {
+            MethodHandle setter = MethodHandles.lookup().unreflectSetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                setter = MethodHandles.dropArguments(setter, 0, Object.class);
+            }
+            return setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new FeatherException(String.format("Can't inject field %s in %s", field.getName(), field.getDeclaringClass().getName()), e);
+        }
+    }
+}
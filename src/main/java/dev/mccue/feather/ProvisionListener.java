@@ -0,0 +1,36 @@
+package dev.mccue.feather;
+
+/**
+ * Receives timings of the work an injector does for each binding. Register one with
+ * {@link DependencyInjector.Builder#listener(ProvisionListener)}; injectors without listeners
+ * don't measure anything.
+ */
+public interface ProvisionListener {
+    /**
+     * Called after a binding for key was created just in time, on first use of a type no module provides
+     */
+    default void bindingCreated(Key<?> key, long nanos) {
+    }
+
+    /**
+     * Called after every instance of a binding other than a singleton is constructed, including the time spent
+     * constructing its dependencies
+     */
+    default void provisioned(Key<?> key, long nanos) {
+    }
+
+    /**
+     * Called once the instance of a {@code @Singleton} binding is constructed, including the time spent
+     * constructing its dependencies
+     */
+    default void singletonInitialized(Key<?> key, long nanos) {
+    }
+
+    /**
+     * @return a listener committing JDK Flight Recorder events for provisions, singleton initializations
+     * and binding creations. Requires the {@code jdk.jfr} module.
+     */
+    static ProvisionListener flightRecorder() {
+        return new FlightRecorderListener();
+    }
+}
@@ -0,0 +1,62 @@
+package dev.mccue.feather;
+
+import jakarta.inject.Provider;
+
+/**
+ * A scope reusing one instance per binding between {@link #enter()} and {@link Request#close()}, on the
+ * thread which entered it. Requests nest; providing a scoped binding outside of any request fails.
+ * <pre>{@code
+ * try (RequestScope.Request request = scope.enter()) {
+ *     injector.instance(Handler.class).handle();
+ * }
+ * }</pre>
+ */
+public final class RequestScope implements Scope {
+    private final Slots.Assignment assignment = new Slots.Assignment();
+    private final ThreadLocal<Request> current = new ThreadLocal<>();
+
+    /**
+     * Starts a request on the current thread
+     */
+    public Request enter() {
+        Request request = new Request(current.get(), new Slots(assignment.size()));
+        current.set(request);
+        return request;
+    }
+
+    @Override
+    public <T> Provider<T> scope(final Key<T> key, final Provider<T> unscoped) {
+        return assignment.assign(slot -> () -> {
+            Request request = current.get();
+            if (request == null) {
+                throw new FeatherException(String.format("%s requested outside of a request", key));
+            }
+            return request.slots.get(slot, unscoped);
+        });
+    }
+
+    public final class Request implements AutoCloseable {
+        private final Request enclosing;
+        private final Slots slots;
+
+        private Request(Request enclosing, Slots slots) {
+            this.enclosing = enclosing;
+            this.slots = slots;
+        }
+
+        /**
+         * Ends the request, restoring the request it was entered in, if any
+         */
+        @Override
+        public void close() {
+            if (current.get() != this) {
+                throw new FeatherException("Request closed on another thread or out of order");
+            }
+            if (enclosing == null) {
+                current.remove();
+            } else {
+                current.set(enclosing);
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package dev.mccue.feather;
+
+import jakarta.inject.Provider;
+
+/**
+ * Decides when instances of a binding are reused. Bind an implementation to a {@link jakarta.inject.Scope}
+ * annotation with {@link DependencyInjector.Builder#scope(Class, Scope)}; classes and provider methods
+ * annotated with it are then provided through {@link #scope(Key, Provider)}.
+ */
+public interface Scope {
+    /**
+     * Called once per binding, when the binding is first provided. The unscoped provider identifies the binding:
+     * injectors sharing the scope, such as the children of one injector, each create their own binding of a key,
+     * whose instances are kept apart from those of the others.
+     *
+     * @return a provider reusing instances of unscoped as long as the scope allows
+     */
+    <T> Provider<T> scope(Key<T> key, Provider<T> unscoped);
+
+    /**
+     * @return a scope reusing one instance per binding and thread
+     */
+    static Scope thread() {
+        return new ThreadScope();
+    }
+}
@@ -0,0 +1,77 @@
+package dev.mccue.feather;
+
+import jakarta.inject.Provider;
+
+import java.lang.ref.Cleaner;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Instances of one scope, indexed by the slot its scope assigned to each binding. Not thread safe.
+ */
+final class Slots {
+    private Object[] values;
+    /**
+     * The binding each value was provided for, as a slot outlives the bindings it's assigned to
+     */
+    private int[] bindings;
+
+    Slots(int size) {
+        values = new Object[size];
+        bindings = new int[size];
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T get(Slot slot, Provider<T> provider) {
+        int index = slot.index();
+        if (index < values.length && bindings[index] == slot.binding() && values[index] != null) {
+            return (T) values[index];
+        }
+        // provider may itself fill slots, growing the arrays, so look them up again afterwards
+        T value = provider.get();
+        if (index >= values.length) {
+            int size = Math.max(index + 1, values.length * 2);
+            values = Arrays.copyOf(values, size);
+            bindings = Arrays.copyOf(bindings, size);
+        }
+        values[index] = value;
+        bindings[index] = slot.binding();
+        return value;
+    }
+
+    /**
+     * A slot and the binding it's assigned to, which its scope numbers from 1, so an empty slot matches no binding
+     */
+    record Slot(int index, int binding) {
+    }
+
+    /**
+     * The slots a scope assigned, one per binding. A slot is reclaimed once the provider of its binding is
+     * collected, so injectors created over and over, such as a child per request, don't grow the slots.
+     */
+    static final class Assignment {
+        private static final Cleaner CLEANER = Cleaner.create();
+        private final Queue<Integer> free = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicInteger bindings = new AtomicInteger();
+
+        /**
+         * @return the provider made for a new slot, whose slot is released once that provider is collected
+         */
+        <T> Provider<T> assign(Function<Slot, Provider<T>> provider) {
+            Integer index = free.poll();
+            Slot slot = new Slot(index != null ? index : size.getAndIncrement(), bindings.incrementAndGet());
+            Provider<T> assigned = provider.apply(slot);
+            int released = slot.index();
+            CLEANER.register(assigned, () -> free.add(released));
+            return assigned;
+        }
+
+        int size() {
+            return size.get();
+        }
+    }
+}
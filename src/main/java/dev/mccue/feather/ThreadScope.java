@@ -0,0 +1,13 @@
+package dev.mccue.feather;
+
+import jakarta.inject.Provider;
+
+final class ThreadScope implements Scope {
+    private final Slots.Assignment assignment = new Slots.Assignment();
+    private final ThreadLocal<Slots> slots = ThreadLocal.withInitial(() -> new Slots(assignment.size()));
+
+    @Override
+    public <T> Provider<T> scope(Key<T> key, Provider<T> unscoped) {
+        return assignment.assign(slot -> () -> slots.get().get(slot, unscoped));
+    }
+}
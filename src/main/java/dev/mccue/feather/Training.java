@@ -0,0 +1,199 @@
+package dev.mccue.feather;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * What a training run of an injector linked, written for production starts: the classes the linked graph
+ * refers to, one internal name per line as in an AppCDS class list, and the keys linked, which
+ * {@link DependencyInjector.Builder#replay(Path)} links again at build. Each line of a key list holds the type
+ * name of a key, a tab and its qualifier: {@code -} for none, {@code @} followed by the qualifier annotation,
+ * or {@code =} followed by the {@code @Named} value.
+ */
+final class Training {
+    private Training() {
+    }
+
+    static void write(Path classList, Path keyList, List<Object> modules, Collection<Key<?>> keys) {
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        for (Object module : modules) {
+            classes(module.getClass(), classes);
+        }
+        List<String> lines = new ArrayList<>();
+        for (Key<?> key : keys) {
+            classes(key.genericType, classes);
+            if (key.qualifier != null) {
+                classes.add(key.qualifier);
+            }
+            String qualifier = key.name != null ? "=" + key.name : key.qualifier != null ? "@" + key.qualifier.getName() : "-";
+            lines.add(key.genericType.getTypeName() + "\t" + qualifier);
+        }
+        List<String> names = new ArrayList<>();
+        for (Class<?> c : classes) {
+            names.add(c.getName().replace('.', '/'));
+        }
+        write(classList, names);
+        write(keyList, lines);
+    }
+
+    /**
+     * @return the keys listed in keyList, their classes loaded by loader
+     */
+    @SuppressWarnings("unchecked")
+    static List<Key<?>> read(Path keyList, ClassLoader loader) {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(keyList);
+        } catch (IOException e) {
+            throw new FeatherException(String.format("Can't read %s", keyList), e);
+        }
+        List<Key<?>> keys = new ArrayList<>();
+        for (String line : lines) {
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split("\t", 2);
+            if (fields.length != 2) {
+                throw new FeatherException(String.format("Malformed line in %s: %s", keyList, line));
+            }
+            Type type = new TypeName(keyList, fields[0], loader).parse();
+            String qualifier = fields[1];
+            if (qualifier.equals("-")) {
+                keys.add(Key.of(type));
+            } else if (qualifier.startsWith("=")) {
+                keys.add(Key.of(type, null, qualifier.substring(1)));
+            } else if (qualifier.startsWith("@")) {
+                keys.add(Key.of(type, (Class<? extends Annotation>) type(keyList, qualifier.substring(1), loader), null));
+            } else {
+                throw new FeatherException(String.format("Malformed line in %s: %s", keyList, line));
+            }
+        }
+        return keys;
+    }
+
+    private static void classes(Type type, Set<Class<?>> classes) {
+        if (type instanceof Class<?> c) {
+            if (c.isArray()) {
+                classes(c.getComponentType(), classes);
+            } else if (!c.isPrimitive() && !c.isHidden()) {
+                classes.add(c);
+            }
+        } else if (type instanceof ParameterizedType parameterized) {
+            classes(parameterized.getRawType(), classes);
+            for (Type argument : parameterized.getActualTypeArguments()) {
+                classes(argument, classes);
+            }
+        } else if (type instanceof WildcardType wildcard) {
+            for (Type bound : wildcard.getUpperBounds()) {
+                classes(bound, classes);
+            }
+            for (Type bound : wildcard.getLowerBounds()) {
+                classes(bound, classes);
+            }
+        } else if (type instanceof GenericArrayType array) {
+            classes(array.getGenericComponentType(), classes);
+        }
+    }
+
+    private static void write(Path file, List<String> lines) {
+        try {
+            Files.write(file, lines);
+        } catch (IOException e) {
+            throw new FeatherException(String.format("Can't write %s", file), e);
+        }
+    }
+
+    private static Class<?> type(Path keyList, String name, ClassLoader loader) {
+        try {
+            return Types.named(name, loader);
+        } catch (ClassNotFoundException e) {
+            throw new FeatherException(String.format("%s names %s, which can't be loaded; train again", keyList, name), e);
+        }
+    }
+
+    /**
+     * Parses a type name as {@link Type#getTypeName()} writes it, such as
+     * {@code java.util.Map<java.lang.String, ? extends java.lang.Number>[]}
+     */
+    private static final class TypeName {
+        private final Path keyList;
+        private final String text;
+        private final ClassLoader loader;
+        private int at;
+
+        private TypeName(Path keyList, String text, ClassLoader loader) {
+            this.keyList = keyList;
+            this.text = text;
+            this.loader = loader;
+        }
+
+        Type parse() {
+            Type type = type();
+            if (at != text.length()) {
+                throw malformed();
+            }
+            return type;
+        }
+
+        private Type type() {
+            int start = at;
+            while (at < text.length() && "<>,[ ".indexOf(text.charAt(at)) < 0) {
+                ++at;
+            }
+            if (at == start) {
+                throw malformed();
+            }
+            Class<?> raw = Training.type(keyList, text.substring(start, at), loader);
+            Type type = raw;
+            if (accept("<")) {
+                List<Type> arguments = new ArrayList<>();
+                do {
+                    accept(" ");
+                    arguments.add(argument());
+                } while (accept(","));
+                if (!accept(">")) {
+                    throw malformed();
+                }
+                type = Types.parameterized(raw, arguments.toArray(new Type[0]));
+            }
+            while (accept("[]")) {
+                type = Types.arrayOf(type);
+            }
+            return type;
+        }
+
+        private Type argument() {
+            if (!accept("?")) {
+                return type();
+            } else if (accept(" extends ")) {
+                return Types.wildcard(type(), null);
+            } else if (accept(" super ")) {
+                return Types.wildcard(Object.class, type());
+            }
+            return Types.wildcard(Object.class, null);
+        }
+
+        private boolean accept(String token) {
+            if (text.startsWith(token, at)) {
+                at += token.length();
+                return true;
+            }
+            return false;
+        }
+
+        private FeatherException malformed() {
+            return new FeatherException(String.format("Malformed type in %s: %s", keyList, text));
+        }
+    }
+}
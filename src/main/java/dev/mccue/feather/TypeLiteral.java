@@ -0,0 +1,29 @@
+package dev.mccue.feather;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+/**
+ * Captures a generic type for {@link Key#of(TypeLiteral)}, by subclassing:
+ * <pre>{@code
+ * Key<List<String>> key = Key.of(new TypeLiteral<List<String>>() {});
+ * }</pre>
+ */
+public abstract class TypeLiteral<T> {
+    final Type type;
+
+    protected TypeLiteral() {
+        Type superclass = getClass().getGenericSuperclass();
+        if (!(superclass instanceof ParameterizedType parameterized) || parameterized.getRawType() != TypeLiteral.class) {
+            throw new FeatherException("TypeLiteral must be subclassed directly with a type argument");
+        }
+        this.type = parameterized.getActualTypeArguments()[0];
+    }
+
+    /**
+     * @return the captured type
+     */
+    public Type getType() {
+        return type;
+    }
+}
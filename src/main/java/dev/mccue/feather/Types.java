@@ -0,0 +1,249 @@
+package dev.mccue.feather;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Canonical implementations of {@link Type}, so that equal types are equal however they were obtained, and
+ * their hash codes are computed only once.
+ */
+final class Types {
+    private static final Type[] OBJECT = {Object.class};
+    private static final Type[] NONE = {};
+    private static final Map<String, Class<?>> PRIMITIVES = Map.of(
+            "boolean", boolean.class, "byte", byte.class, "char", char.class, "short", short.class,
+            "int", int.class, "long", long.class, "float", float.class, "double", double.class
+    );
+
+    private Types() {
+    }
+
+    /**
+     * @return type in canonical form, failing if it isn't fully specified
+     */
+    static Type canonical(Type type) {
+        if (type instanceof Class<?> || type instanceof Parameterized || type instanceof Wildcard || type instanceof GenericArray) {
+            return type;
+        } else if (type instanceof ParameterizedType parameterized) {
+            Type owner = parameterized.getOwnerType();
+            return new Parameterized(owner == null ? null : canonical(owner), (Class<?>) parameterized.getRawType(), canonical(parameterized.getActualTypeArguments()));
+        } else if (type instanceof WildcardType wildcard) {
+            return new Wildcard(canonical(wildcard.getUpperBounds()), canonical(wildcard.getLowerBounds()));
+        } else if (type instanceof GenericArrayType array) {
+            Type component = canonical(array.getGenericComponentType());
+            return component instanceof Class<?> c ? Array.newInstance(c, 0).getClass() : new GenericArray(component);
+        }
+        throw new FeatherException(String.format("%s isn't fully specified, so it can't be a key", type.getTypeName()));
+    }
+
+    /**
+     * @return whether type, or any type argument in it, is a type variable
+     */
+    static boolean hasTypeVariable(Type type) {
+        if (type instanceof TypeVariable<?>) {
+            return true;
+        } else if (type instanceof ParameterizedType parameterized) {
+            return anyTypeVariable(parameterized.getActualTypeArguments())
+                    || (parameterized.getOwnerType() != null && hasTypeVariable(parameterized.getOwnerType()));
+        } else if (type instanceof WildcardType wildcard) {
+            return anyTypeVariable(wildcard.getUpperBounds()) || anyTypeVariable(wildcard.getLowerBounds());
+        } else if (type instanceof GenericArrayType array) {
+            return hasTypeVariable(array.getGenericComponentType());
+        }
+        return false;
+    }
+
+    /**
+     * @return the class of type, without its type arguments, which for a type variable is the class of its first bound
+     */
+    static Class<?> raw(Type type) {
+        if (type instanceof Class<?> c) {
+            return c;
+        } else if (type instanceof ParameterizedType parameterized) {
+            return (Class<?>) parameterized.getRawType();
+        } else if (type instanceof GenericArrayType array) {
+            return Array.newInstance(raw(array.getGenericComponentType()), 0).getClass();
+        } else if (type instanceof TypeVariable<?> variable) {
+            return raw(variable.getBounds()[0]);
+        }
+        return Object.class;
+    }
+
+    /**
+     * @return raw parameterized with arguments, owned by the class declaring raw, as reflection has it
+     */
+    static ParameterizedType parameterized(Class<?> raw, Type... arguments) {
+        return new Parameterized(raw.getDeclaringClass(), raw, canonical(arguments));
+    }
+
+    /**
+     * @return the wildcard {@code ? extends upper}, or {@code ? super lower} if lower isn't null
+     */
+    static WildcardType wildcard(Type upper, Type lower) {
+        return lower == null ? new Wildcard(new Type[]{canonical(upper)}, NONE) : new Wildcard(OBJECT, new Type[]{canonical(lower)});
+    }
+
+    /**
+     * @return the array type of component
+     */
+    static Type arrayOf(Type component) {
+        Type canonical = canonical(component);
+        return canonical instanceof Class<?> c ? c.arrayType() : new GenericArray(canonical);
+    }
+
+    /**
+     * @return the class of name, a primitive, a binary class name or either followed by {@code []}s
+     */
+    static Class<?> named(String name, ClassLoader loader) throws ClassNotFoundException {
+        if (name.endsWith("[]")) {
+            return named(name.substring(0, name.length() - 2), loader).arrayType();
+        }
+        Class<?> primitive = PRIMITIVES.get(name);
+        return primitive != null ? primitive : Class.forName(name, false, loader);
+    }
+
+    private static boolean anyTypeVariable(Type[] types) {
+        for (Type type : types) {
+            if (hasTypeVariable(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Type[] canonical(Type[] types) {
+        Type[] canonical = new Type[types.length];
+        for (int i = 0; i < types.length; ++i) {
+            canonical[i] = canonical(types[i]);
+        }
+        return canonical;
+    }
+
+    private static final class Parameterized implements ParameterizedType {
+        private final Type owner;
+        private final Class<?> raw;
+        private final Type[] arguments;
+        private final int hashCode;
+
+        private Parameterized(Type owner, Class<?> raw, Type[] arguments) {
+            this.owner = owner;
+            this.raw = raw;
+            this.arguments = arguments;
+            // the hash code ParameterizedType specifies, so that equal types of other implementations hash alike
+            this.hashCode = Arrays.hashCode(arguments) ^ Objects.hashCode(owner) ^ raw.hashCode();
+        }
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return arguments.clone();
+        }
+
+        @Override
+        public Type getRawType() {
+            return raw;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return owner;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ParameterizedType other
+                    && raw.equals(other.getRawType())
+                    && Objects.equals(owner, other.getOwnerType())
+                    && Arrays.equals(arguments, other.getActualTypeArguments());
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            StringJoiner joiner = new StringJoiner(", ", raw.getName() + "<", ">");
+            for (Type argument : arguments) {
+                joiner.add(argument.getTypeName());
+            }
+            return joiner.toString();
+        }
+    }
+
+    private static final class Wildcard implements WildcardType {
+        private final Type[] upper;
+        private final Type[] lower;
+
+        private Wildcard(Type[] upper, Type[] lower) {
+            this.upper = upper.length == 0 ? OBJECT : upper;
+            this.lower = lower.length == 0 ? NONE : lower;
+        }
+
+        @Override
+        public Type[] getUpperBounds() {
+            return upper.clone();
+        }
+
+        @Override
+        public Type[] getLowerBounds() {
+            return lower.clone();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof WildcardType other
+                    && Arrays.equals(upper, other.getUpperBounds())
+                    && Arrays.equals(lower, other.getLowerBounds());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(upper) ^ Arrays.hashCode(lower);
+        }
+
+        @Override
+        public String toString() {
+            if (lower.length > 0) {
+                return "? super " + lower[0].getTypeName();
+            }
+            return upper[0] == Object.class ? "?" : "? extends " + upper[0].getTypeName();
+        }
+    }
+
+    private static final class GenericArray implements GenericArrayType {
+        private final Type component;
+
+        private GenericArray(Type component) {
+            this.component = component;
+        }
+
+        @Override
+        public Type getGenericComponentType() {
+            return component;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof GenericArrayType other && component.equals(other.getGenericComponentType());
+        }
+
+        @Override
+        public int hashCode() {
+            return component.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return component.getTypeName() + "[]";
+        }
+    }
+}
@@ -1,5 +1,6 @@
 module dev.mccue.feather {
     requires transitive jakarta.inject;
+    requires static jdk.jfr;
 
     exports dev.mccue.feather;
-}
\ No newline at end of file
+}
@@ -0,0 +1,213 @@
+package org.codejargon.feather;
+
+import dev.mccue.feather.DependencyInjector;
+import dev.mccue.feather.Feather;
+import dev.mccue.feather.FeatherException;
+import dev.mccue.feather.Key;
+import dev.mccue.feather.Provides;
+import org.junit.Test;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AsyncProviderTest {
+    @Test
+    public void futureProvider() {
+        Feather feather = Feather.with(new FutureModule());
+        assertEquals("config", feather.instance(Key.of(String.class, "config")));
+        assertEquals("config", feather.instanceAsync(Key.of(String.class, "config")).join());
+        assertEquals("config", feather.instance(Client.class).config);
+    }
+
+    @Test
+    public void parametersConstructedConcurrently() {
+        Latched.latch = new CountDownLatch(2);
+        Pair pair = Feather.with().instanceAsync(Key.of(Pair.class)).join();
+        assertTrue(pair.left.released);
+        assertTrue(pair.right.released);
+    }
+
+    @Test
+    public void singletonConstructedOnce() {
+        Counted.count.set(0);
+        Feather feather = Feather.with();
+        CompletableFuture<Counted> async = feather.instanceAsync(Key.of(Counted.class));
+        Counted counted = feather.instance(Counted.class);
+        assertSame(counted, async.join());
+        assertSame(counted, feather.instanceAsync(Key.of(Counted.class)).join());
+        assertEquals(1, Counted.count.get());
+    }
+
+    @Test
+    public void executorUsed() {
+        Latched.latch = new CountDownLatch(0);
+        AtomicInteger tasks = new AtomicInteger();
+        Executor executor = task -> {
+            tasks.incrementAndGet();
+            task.run();
+        };
+        Feather.with().instanceAsync(Key.of(Pair.class), executor).join();
+        assertTrue(tasks.get() >= 3);
+    }
+
+    @Test
+    public void failedFuture() {
+        DependencyInjector injector = Feather.with(new FailingModule());
+        try {
+            injector.instanceAsync(Key.of(String.class)).join();
+            fail();
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof FeatherException);
+            assertEquals("Can't instantiate java.lang.String with provider", e.getCause().getMessage());
+            assertTrue(e.getCause().getCause() instanceof IllegalStateException);
+        }
+        try {
+            injector.instance(String.class);
+            fail();
+        } catch (FeatherException e) {
+            assertEquals("Can't instantiate java.lang.String with provider", e.getMessage());
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test(timeout = 5_000)
+    public void futureComposedWithoutBlocking() {
+        PendingModule module = new PendingModule();
+        CompletableFuture<String> async = Feather.with(module).instanceAsync(Key.of(String.class), Runnable::run);
+        assertFalse(async.isDone());
+        module.pending.complete("done");
+        assertEquals("done", async.join());
+    }
+
+    @Test(timeout = 5_000)
+    public void boundFutureComposedWithoutBlocking() {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        DependencyInjector injector = DependencyInjector.builder()
+                .providesFuture(Key.of(String.class), new Key<?>[0], new boolean[0], false, dependencies -> pending)
+                .build();
+        CompletableFuture<String> async = injector.instanceAsync(Key.of(String.class), Runnable::run);
+        assertFalse(async.isDone());
+        pending.complete("done");
+        assertEquals("done", async.join());
+        assertEquals("done", injector.instance(String.class));
+    }
+
+    @Test
+    public void providerParameterInjected() {
+        Latched.latch = new CountDownLatch(0);
+        WithProvider withProvider = Feather.with().instanceAsync(Key.of(WithProvider.class)).join();
+        assertTrue(withProvider.pair.get().left.released);
+    }
+
+    @Test
+    public void missingBindingFailsFuture() {
+        CompletableFuture<Unbindable> future = Feather.with().instanceAsync(Key.of(Unbindable.class));
+        assertTrue(future.isCompletedExceptionally());
+    }
+
+    public static class FutureModule {
+        @Provides
+        @Named("config")
+        CompletableFuture<String> config() {
+            return CompletableFuture.supplyAsync(() -> "config");
+        }
+    }
+
+    public static class PendingModule {
+        private final CompletableFuture<String> pending = new CompletableFuture<>();
+
+        @Provides
+        CompletableFuture<String> pending() {
+            return pending;
+        }
+    }
+
+    public static class FailingModule {
+        @Provides
+        CompletableFuture<String> failing() {
+            return CompletableFuture.failedFuture(new IllegalStateException("unavailable"));
+        }
+    }
+
+    public static class Client {
+        private final String config;
+
+        @Inject
+        public Client(@Named("config") String config) {
+            this.config = config;
+        }
+    }
+
+    public static class Latched {
+        static volatile CountDownLatch latch;
+        final boolean released;
+
+        Latched() throws InterruptedException {
+            CountDownLatch latch = Latched.latch;
+            latch.countDown();
+            released = latch.await(5, TimeUnit.SECONDS);
+        }
+    }
+
+    public static class Left extends Latched {
+        @Inject
+        public Left() throws InterruptedException {
+        }
+    }
+
+    public static class Right extends Latched {
+        @Inject
+        public Right() throws InterruptedException {
+        }
+    }
+
+    public static class Pair {
+        private final Left left;
+        private final Right right;
+
+        @Inject
+        public Pair(Left left, Right right) {
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    public static class WithProvider {
+        private final Provider<Pair> pair;
+
+        @Inject
+        public WithProvider(Provider<Pair> pair) {
+            this.pair = pair;
+        }
+    }
+
+    @Singleton
+    public static class Counted {
+        static final AtomicInteger count = new AtomicInteger();
+
+        public Counted() throws InterruptedException {
+            count.incrementAndGet();
+            Thread.sleep(50);
+        }
+    }
+
+    public static class Unbindable {
+        Unbindable(String unused) {
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.codejargon.feather;
+
+import dev.mccue.feather.Feather;
+import org.junit.Test;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class BindingConcurrencyTest {
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 200;
+
+    @Test
+    public void justInTimeBindingCreatedOnce() throws Exception {
+        Counted.instances.set(0);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < ROUNDS; ++round) {
+                Feather feather = Feather.with();
+                CyclicBarrier barrier = new CyclicBarrier(THREADS);
+                List<Future<Provider<Dependent>>> providers = new ArrayList<>();
+                for (int i = 0; i < THREADS; ++i) {
+                    providers.add(executor.submit(() -> {
+                        barrier.await();
+                        Provider<Dependent> provider = feather.provider(Dependent.class);
+                        provider.get();
+                        return provider;
+                    }));
+                }
+                Provider<Dependent> first = providers.get(0).get();
+                for (Future<Provider<Dependent>> provider : providers) {
+                    assertSame(first, provider.get());
+                }
+                assertEquals(round + 1, Counted.instances.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Singleton
+    public static class Counted {
+        static final AtomicInteger instances = new AtomicInteger();
+
+        public Counted() {
+            instances.incrementAndGet();
+        }
+    }
+
+    public static class Dependent {
+        @Inject
+        public Dependent(Counted counted) {
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.codejargon.feather;
+
+import dev.mccue.feather.DependencyInjector;
+import dev.mccue.feather.Feather;
+import dev.mccue.feather.FeatherException;
+import dev.mccue.feather.Key;
+import dev.mccue.feather.Provides;
+import dev.mccue.feather.TypeLiteral;
+import org.junit.Test;
+
+import jakarta.inject.Named;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * IndexedModule is listed in this module's META-INF/feather/bindings.idx, as the annotation processor would,
+ * except that the index misses one of its provider methods and lists one it no longer has.
+ */
+public class BindingIndexTest {
+    @Test
+    public void indexedMethodsBound() {
+        DependencyInjector feather = indexed();
+        assertEquals("hi", feather.instance(Key.of(String.class, "greeting")));
+        assertEquals("hi", feather.instance(Greeter.class).greeting);
+        assertEquals(42, (int) feather.instance(int.class));
+        assertEquals(List.of("a"), feather.instance(Key.of(new TypeLiteral<List<String>>() {})));
+    }
+
+    @Test
+    public void indexUnusedUnlessEnabled() {
+        Feather feather = Feather.with(new IndexedModule());
+        assertEquals(1.0, feather.instance(Double.class), 0);
+        assertEquals("hi", feather.instance(Greeter.class).greeting);
+    }
+
+    @Test
+    public void staleEntryFailsOnFirstUse() {
+        DependencyInjector feather = indexed();
+        try {
+            feather.instance(Long.class);
+            fail();
+        } catch (FeatherException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("rebuild the index"));
+        }
+    }
+
+    @Test(expected = FeatherException.class)
+    public void staleEntryFailsValidatedBuild() {
+        DependencyInjector.builder()
+                .module(new IndexedModule())
+                .index()
+                .validate()
+                .build();
+    }
+
+    private static DependencyInjector indexed() {
+        return DependencyInjector.builder()
+                .module(new IndexedModule())
+                .index()
+                .build();
+    }
+
+    public static class IndexedModule {
+        @Provides
+        @Named("greeting")
+        String greeting() {
+            return "hi";
+        }
+
+        @Provides
+        Greeter greeter(@Named("greeting") String greeting) {
+            return new Greeter(greeting);
+        }
+
+        @Provides
+        static int answer() {
+            return 42;
+        }
+
+        @Provides
+        List<String> names() {
+            return List.of("a");
+        }
+
+        @Provides
+        Double unlisted() {
+            return 1.0;
+        }
+    }
+
+    public static class Greeter {
+        private final String greeting;
+
+        Greeter(String greeting) {
+            this.greeting = greeting;
+        }
+    }
+}
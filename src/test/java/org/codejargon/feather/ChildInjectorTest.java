@@ -0,0 +1,157 @@
+package org.codejargon.feather;
+
+import dev.mccue.feather.DependencyInjector;
+import dev.mccue.feather.Feather;
+import dev.mccue.feather.FeatherException;
+import dev.mccue.feather.Provides;
+import org.junit.Test;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class ChildInjectorTest {
+    @Test
+    public void parentSingletonsShared() {
+        Feather parent = Feather.with(new ApplicationModule());
+        Database database = parent.instance(Database.class);
+        DependencyInjector child = parent.child(new RequestModule("a"));
+        assertSame(database, child.instance(Database.class));
+        assertEquals("url", child.instance(String.class));
+    }
+
+    @Test
+    public void childBindingsResolvedThroughChild() {
+        Feather parent = Feather.with(new ApplicationModule());
+        parent.instance(Database.class);
+        Handler a = parent.child(new RequestModule("a")).instance(Handler.class);
+        Handler b = parent.child(new RequestModule("b")).instance(Handler.class);
+        assertEquals("a", a.request.id);
+        assertEquals("b", b.request.id);
+        assertSame(a.database, b.database);
+    }
+
+    @Test(expected = FeatherException.class)
+    public void childBindingsInvisibleToParent() {
+        Feather parent = Feather.with(new ApplicationModule());
+        parent.child(new RequestModule("a")).instance(Request.class);
+        parent.instance(Request.class);
+    }
+
+    @Test
+    public void childBindingsTakePrecedence() {
+        Feather parent = Feather.with(new ApplicationModule());
+        DependencyInjector child = parent.child(new OverridingModule());
+        assertEquals("override", child.instance(String.class));
+        assertEquals("url", parent.instance(String.class));
+    }
+
+    @Test
+    public void grandchildSeesAllAncestors() {
+        Feather parent = Feather.with(new ApplicationModule());
+        Database database = parent.instance(Database.class);
+        DependencyInjector grandchild = parent.child(new RequestModule("a")).child();
+        Handler handler = grandchild.instance(Handler.class);
+        assertEquals("a", handler.request.id);
+        assertSame(database, handler.database);
+    }
+
+    @Test
+    public void singletonsFirstBoundInChildSharedWithParent() {
+        Feather parent = Feather.with(new ApplicationModule());
+        Database database = parent.child(new RequestModule("a")).instance(Database.class);
+        assertSame(database, parent.child(new RequestModule("b")).instance(Database.class));
+        assertSame(database, parent.instance(Database.class));
+    }
+
+    @Test
+    public void singletonsDependingOnChildStayInChild() {
+        Feather parent = Feather.with(new ApplicationModule());
+        Session a = parent.child(new RequestModule("a")).instance(Session.class);
+        Session b = parent.child(new RequestModule("b")).instance(Session.class);
+        assertEquals("a", a.handler.request.id);
+        assertEquals("b", b.handler.request.id);
+        assertSame(a.handler.database, b.handler.database);
+    }
+
+    @Test
+    public void singletonsDependingOnOverridesStayInChild() {
+        Feather parent = Feather.with(new ApplicationModule());
+        Database database = parent.child(new OverridingModule()).instance(Database.class);
+        assertNotSame(database, parent.instance(Database.class));
+    }
+
+    @Test
+    public void injectorInjectedIsTheChild() {
+        Feather parent = Feather.with();
+        DependencyInjector child = parent.child();
+        assertSame(child, child.instance(DependencyInjector.class));
+        assertNotSame(parent, child.instance(DependencyInjector.class));
+    }
+
+    public static class ApplicationModule {
+        @Provides
+        String url() {
+            return "url";
+        }
+    }
+
+    public static class RequestModule {
+        private final String id;
+
+        RequestModule(String id) {
+            this.id = id;
+        }
+
+        @Provides
+        Request request() {
+            return new Request(id);
+        }
+    }
+
+    public static class OverridingModule {
+        @Provides
+        String url() {
+            return "override";
+        }
+    }
+
+    @Singleton
+    public static class Database {
+        @Inject
+        public Database(String url) {
+        }
+    }
+
+    @Singleton
+    public static class Session {
+        private final Handler handler;
+
+        @Inject
+        public Session(Handler handler) {
+            this.handler = handler;
+        }
+    }
+
+    public static class Request {
+        private final String id;
+
+        Request(String id) {
+            this.id = id;
+        }
+    }
+
+    public static class Handler {
+        private final Request request;
+        private final Database database;
+
+        @Inject
+        public Handler(Request request, Database database) {
+            this.request = request;
+            this.database = database;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.codejargon.feather;
+
+import dev.mccue.feather.DependencyInjector;
+import dev.mccue.feather.FeatherException;
+import dev.mccue.feather.Key;
+import dev.mccue.feather.Provides;
+import org.junit.Test;
+
+import jakarta.inject.Named;
+import jakarta.inject.Provider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class DeclaredBindingTest {
+    private static final Key<String> GREETING = Key.of(String.class, "greeting");
+    private static final Key<Greeter> GREETER = Key.of(Greeter.class);
+
+    @Test
+    public void dependenciesInjected() {
+        DependencyInjector injector = DependencyInjector.builder()
+                .provides(GREETING, new Key<?>[]{}, new boolean[]{}, false, dependencies -> "hi")
+                .provides(GREETER, new Key<?>[]{GREETING}, new boolean[]{false}, false, dependencies -> new Greeter((String) dependencies[0].get()))
+                .build();
+        assertEquals("hi", injector.instance(GREETER).greeting);
+        assertNotSame(injector.instance(GREETER), injector.instance(GREETER));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void providerInjected() {
+        DependencyInjector injector = DependencyInjector.builder()
+                .provides(GREETING, new Key<?>[]{}, new boolean[]{}, false, dependencies -> "hi")
+                .provides(GREETER, new Key<?>[]{GREETING}, new boolean[]{true}, true, dependencies -> new Greeter(((Provider<String>) dependencies[0].get()).get()))
+                .build();
+        assertEquals("hi", injector.instance(GREETER).greeting);
+        assertSame(injector.instance(GREETER), injector.instance(GREETER));
+    }
+
+    @Test(expected = FeatherException.class)
+    public void conflictsWithModule() {
+        DependencyInjector.builder()
+                .module(new Module())
+                .provides(GREETING, new Key<?>[]{}, new boolean[]{}, false, dependencies -> "hello")
+                .build();
+    }
+
+    public static class Module {
+        @Provides
+        @Named("greeting")
+        String greeting() {
+            return "hi";
+        }
+    }
+
+    public static class Greeter {
+        private final String greeting;
+
+        Greeter(String greeting) {
+            this.greeting = greeting;
+        }
+    }
+}
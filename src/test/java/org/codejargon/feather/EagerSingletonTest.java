@@ -0,0 +1,136 @@
+package org.codejargon.feather;
+
+import dev.mccue.feather.DependencyInjector;
+import dev.mccue.feather.FeatherException;
+import dev.mccue.feather.Provides;
+import org.junit.Test;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class EagerSingletonTest {
+    @Test
+    public void singletonsConstructedAtBuild() {
+        Module module = new Module();
+        DependencyInjector injector = DependencyInjector.builder()
+                .module(module)
+                .eager()
+                .build();
+        assertEquals(3, module.log.constructed.size());
+        assertEquals("root", module.log.constructed.get(2));
+        assertSame(injector.instance(Root.class), injector.instance(Root.class));
+        assertEquals(3, module.log.constructed.size());
+    }
+
+    @Test
+    public void independentSingletonsConstructedConcurrently() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Module module = new Module();
+            DependencyInjector.builder()
+                    .module(module)
+                    .eager(executor)
+                    .build();
+            assertTrue(module.log.concurrent);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void unscopedNotConstructed() {
+        Module module = new Module();
+        DependencyInjector.builder()
+                .module(module)
+                .eager()
+                .build();
+        assertFalse(module.log.constructed.contains("service"));
+    }
+
+    @Test(expected = FeatherException.class)
+    public void failureReportedAtBuild() {
+        DependencyInjector.builder()
+                .module(new FailingModule())
+                .eager()
+                .build();
+    }
+
+    public static class Log {
+        final List<String> constructed = new CopyOnWriteArrayList<>();
+        final CountDownLatch both = new CountDownLatch(2);
+        volatile boolean concurrent;
+
+        void awaitBoth() throws InterruptedException {
+            both.countDown();
+            concurrent = both.await(5, TimeUnit.SECONDS);
+        }
+    }
+
+    public static class Left {
+    }
+
+    public static class Right {
+    }
+
+    public static class Service {
+    }
+
+    @Singleton
+    public static class Root {
+        @Inject
+        public Root(Left left, Right right, Log log) {
+            log.constructed.add("root");
+        }
+    }
+
+    public static class Module {
+        final Log log = new Log();
+
+        @Provides
+        Log log() {
+            return log;
+        }
+
+        @Provides
+        @Singleton
+        Left left() throws InterruptedException {
+            log.awaitBoth();
+            log.constructed.add("left");
+            return new Left();
+        }
+
+        @Provides
+        @Singleton
+        Right right() throws InterruptedException {
+            log.awaitBoth();
+            log.constructed.add("right");
+            return new Right();
+        }
+
+        @Provides
+        Service service(Root root) {
+            log.constructed.add("service");
+            return new Service();
+        }
+    }
+
+    public static class FailingModule {
+        @Provides
+        @Singleton
+        String failing() {
+            throw new IllegalStateException("failed");
+        }
+    }
+}
@@ -1,11 +1,23 @@
 package org.codejargon.feather;
 
 import dev.mccue.feather.Feather;
+import dev.mccue.feather.FeatherException;
+import dev.mccue.feather.Provides;
 import org.junit.Test;
 
 import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Provider;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 
 public class FieldInjectionTest {
     @Test
@@ -16,12 +28,124 @@ public class FieldInjectionTest {
         assertNotNull(target.a);
     }
 
+    @Test
+    public void providerQualifiedAndInheritedFieldsInjected() {
+        Feather feather = Feather.with(new Module());
+        SubTarget target = new SubTarget();
+        feather.injectFields(target);
+        assertNotNull(((Target) target).a);
+        assertNotNull(target.b.get());
+        assertEquals("hi", target.greeting);
+    }
+
+    @Test
+    public void fieldsInjectedOnEveryCall() {
+        Feather feather = Feather.with();
+        Target first = new Target();
+        Target second = new Target();
+        feather.injectFields(first);
+        feather.injectFields(second);
+        assertNotSame(first.a, second.a);
+    }
+
+    @Test
+    public void batchInjected() {
+        Feather feather = Feather.with(new Module());
+        Object[] targets = {new Target(), new SubTarget(), new Target(), new SubTarget()};
+        feather.injectFieldsAll(targets);
+        for (Object target : targets) {
+            assertNotNull(((Target) target).a);
+        }
+        assertNotSame(((Target) targets[0]).a, ((Target) targets[2]).a);
+        assertEquals("hi", ((SubTarget) targets[3]).greeting);
+    }
+
+    @Test
+    public void largeBatchInjectedInParallel() {
+        Feather feather = Feather.with(new Module());
+        List<SubTarget> targets = new ArrayList<>();
+        for (int i = 0; i < 10_000; ++i) {
+            targets.add(new SubTarget());
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            feather.injectFieldsAll(targets, pool);
+        } finally {
+            pool.shutdown();
+        }
+        for (SubTarget target : targets) {
+            assertNotNull(((Target) target).a);
+            assertEquals("hi", target.greeting);
+        }
+    }
+
+    @Test
+    public void collectionInjectedAsTarget() {
+        Registry registry = new Registry();
+        Feather.with(new Module()).injectFields(registry);
+        assertNotNull(registry.a);
+    }
+
+    @Test(expected = FeatherException.class)
+    public void batchFailsOnUnbindableField() {
+        Feather.with().injectFieldsAll(List.of(new Target(), new BrokenTarget()));
+    }
+
+    @Test
+    public void injectorCollectedAfterInjectingFields() throws Exception {
+        WeakReference<Feather> feather = injectWithDiscardedInjector();
+        for (int i = 0; i < 50 && feather.get() != null; ++i) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(feather.get());
+    }
+
+    private static WeakReference<Feather> injectWithDiscardedInjector() {
+        Feather feather = Feather.with(new Module());
+        SubTarget target = new SubTarget();
+        feather.injectFields(target);
+        feather.child().injectFields(target);
+        assertEquals("hi", target.greeting);
+        return new WeakReference<>(feather);
+    }
+
+    public static class Registry extends ArrayList<String> {
+        @Inject
+        private A a;
+    }
 
     public static class Target {
         @Inject
         private A a;
     }
 
+    public static class SubTarget extends Target {
+        @Inject
+        private Provider<A> b;
+        @Inject
+        @Named("greeting")
+        private String greeting;
+    }
+
+    public static class BrokenTarget {
+        @Inject
+        private Unbindable unbindable;
+    }
+
+    public static class Unbindable {
+        Unbindable(String unused) {
+        }
+    }
+
+    public static class Module {
+        @Provides
+        @Named("greeting")
+        String greeting() {
+            return "hi";
+        }
+    }
+
     public static class A {
 
     }
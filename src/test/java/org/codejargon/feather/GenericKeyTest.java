@@ -0,0 +1,154 @@
+package org.codejargon.feather;
+
+import dev.mccue.feather.Feather;
+import dev.mccue.feather.FeatherException;
+import dev.mccue.feather.Key;
+import dev.mccue.feather.Provides;
+import dev.mccue.feather.TypeLiteral;
+import org.junit.Test;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Provider;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class GenericKeyTest {
+    @Test
+    public void typeArgumentsDistinguishBindings() {
+        Feather feather = Feather.with(new GenericModule());
+        assertEquals(List.of("a", "b"), feather.instance(Key.of(new TypeLiteral<List<String>>() {})));
+        assertEquals(List.of(1, 2), feather.instance(Key.of(new TypeLiteral<List<Integer>>() {})));
+        assertEquals(List.of("c"), feather.instance(Key.of(new TypeLiteral<List<String>>() {}, "other")));
+    }
+
+    @Test
+    public void genericDependencies() {
+        Consumer consumer = Feather.with(new GenericModule()).instance(Consumer.class);
+        assertEquals(List.of("a", "b"), consumer.strings);
+        assertEquals(List.of(1, 2), consumer.integers.get());
+        assertEquals(Map.of("wild", 0), consumer.wildcard);
+    }
+
+    @Test
+    public void keysInterned() throws NoSuchFieldException {
+        Key<List<String>> literal = Key.of(new TypeLiteral<List<String>>() {});
+        assertSame(literal, Key.of(new TypeLiteral<List<String>>() {}));
+        assertSame(literal, Key.of(Consumer.class.getDeclaredField("strings").getGenericType()));
+        assertSame(Key.of(String.class, "name"), Key.of(String.class, "name"));
+        assertSame(Key.of(String.class), Key.of(new TypeLiteral<String>() {}));
+        assertSame(Key.setOf(String.class), Key.of(new TypeLiteral<Set<String>>() {}));
+        assertNotSame(literal, Key.of(new TypeLiteral<List<Integer>>() {}));
+        assertEquals("java.util.List<java.lang.String>@\"name\"", Key.of(new TypeLiteral<List<String>>() {}, "name").toString());
+    }
+
+    @Test
+    public void unreachableKeysCollected() throws Exception {
+        WeakReference<Key<String>> key = new WeakReference<>(Key.of(String.class, "collected"));
+        for (int i = 0; i < 50 && key.get() != null; ++i) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(key.get());
+        assertSame(Key.of(String.class, "collected"), Key.of(String.class, "collected"));
+    }
+
+    @Test
+    public void keysInternedConcurrently() throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Key<String>>> keys = new ArrayList<>();
+            for (int i = 0; i < 1000; ++i) {
+                keys.add(executor.submit(() -> Key.of(String.class, "concurrent")));
+            }
+            for (Future<Key<String>> key : keys) {
+                assertSame(keys.get(0).get(), key.get());
+            }
+        }
+    }
+
+    @Test
+    public void typeVariablesBoundToErasure() {
+        Feather feather = Feather.with(new ValueModule<>("value"), new ElementModule<>(1));
+        assertEquals("value", feather.instance(CharSequence.class));
+        assertEquals(1, feather.instance(Object.class));
+    }
+
+    @Test(expected = FeatherException.class)
+    public void typeVariablesRejected() {
+        Key.of(List.class.getTypeParameters()[0]);
+    }
+
+    public static class GenericModule {
+        @Provides
+        List<String> strings() {
+            return List.of("a", "b");
+        }
+
+        @Provides
+        @Named("other")
+        List<String> otherStrings() {
+            return List.of("c");
+        }
+
+        @Provides
+        List<Integer> integers() {
+            return List.of(1, 2);
+        }
+
+        @Provides
+        Map<String, ? extends Number> wildcard() {
+            return Map.of("wild", 0);
+        }
+    }
+
+    public static class ValueModule<T extends CharSequence> {
+        private final T value;
+
+        ValueModule(T value) {
+            this.value = value;
+        }
+
+        @Provides
+        T value() {
+            return value;
+        }
+    }
+
+    public static class ElementModule<E> {
+        private final E element;
+
+        ElementModule(E element) {
+            this.element = element;
+        }
+
+        @Provides
+        E element() {
+            return element;
+        }
+    }
+
+    public static class Consumer {
+        private final List<String> strings;
+        private final Provider<List<Integer>> integers;
+        private final Map<String, ? extends Number> wildcard;
+
+        @Inject
+        public Consumer(List<String> strings, Provider<List<Integer>> integers, Map<String, ? extends Number> wildcard) {
+            this.strings = strings;
+            this.integers = integers;
+            this.wildcard = wildcard;
+        }
+    }
+}
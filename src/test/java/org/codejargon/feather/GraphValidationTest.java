@@ -0,0 +1,129 @@
+package org.codejargon.feather;
+
+import dev.mccue.feather.DependencyInjector;
+import dev.mccue.feather.FeatherException;
+import dev.mccue.feather.Key;
+import dev.mccue.feather.Provides;
+import org.junit.Test;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class GraphValidationTest {
+    @Test
+    public void allProblemsReported() {
+        try {
+            DependencyInjector.builder()
+                    .module(new BrokenModule())
+                    .validate()
+                    .build();
+            fail();
+        } catch (FeatherException e) {
+            String message = e.getMessage();
+            assertTrue(message, message.contains(Unconstructible.class.getName() + " doesn't have an @Inject or no-arg constructor"));
+            assertTrue(message, message.contains("multiple @Inject constructors"));
+            assertTrue(message, message.contains("Circular dependency: " + Key.of(Circle1.class) + " -> " + Key.of(Circle2.class) + " -> " + Key.of(Circle1.class)));
+        }
+    }
+
+    @Test(expected = FeatherException.class)
+    public void rootsValidated() {
+        DependencyInjector.builder()
+                .validate(Key.of(NeedsUnconstructible.class))
+                .build();
+    }
+
+    @Test
+    public void validGraph() {
+        DependencyInjector injector = DependencyInjector.builder()
+                .module(new ValidModule())
+                .validate(Key.of(CircleWithProvider1.class))
+                .build();
+        assertEquals("valid", injector.instance(String.class));
+        assertNotNull(injector.instance(CircleWithProvider1.class).circleWithProvider2.circleWithProvider1.get());
+    }
+
+    @Test(expected = FeatherException.class)
+    public void cyclesOutsideValidatedGraphStillDetected() {
+        DependencyInjector injector = DependencyInjector.builder()
+                .module(new ValidModule())
+                .validate()
+                .build();
+        injector.instance(Circle1.class);
+    }
+
+    public static class BrokenModule {
+        @Provides
+        String first(NeedsUnconstructible needsUnconstructible) {
+            return "first";
+        }
+
+        @Provides
+        Integer second(Ambiguous ambiguous, Circle1 circle) {
+            return 2;
+        }
+    }
+
+    public static class ValidModule {
+        @Provides
+        String valid() {
+            return "valid";
+        }
+    }
+
+    public static class Unconstructible {
+        Unconstructible(String unused) {
+        }
+    }
+
+    public static class NeedsUnconstructible {
+        @Inject
+        public NeedsUnconstructible(Unconstructible unconstructible) {
+        }
+    }
+
+    public static class Ambiguous {
+        @Inject
+        public Ambiguous() {
+        }
+
+        @Inject
+        public Ambiguous(String unused) {
+        }
+    }
+
+    public static class Circle1 {
+        @Inject
+        public Circle1(Circle2 circle2) {
+        }
+    }
+
+    public static class Circle2 {
+        @Inject
+        public Circle2(Circle1 circle1) {
+        }
+    }
+
+    public static class CircleWithProvider1 {
+        private final CircleWithProvider2 circleWithProvider2;
+
+        @Inject
+        public CircleWithProvider1(CircleWithProvider2 circleWithProvider2) {
+            this.circleWithProvider2 = circleWithProvider2;
+        }
+    }
+
+    public static class CircleWithProvider2 {
+        private final Provider<CircleWithProvider1> circleWithProvider1;
+
+        @Inject
+        public CircleWithProvider2(Provider<CircleWithProvider1> circleWithProvider1) {
+            this.circleWithProvider1 = circleWithProvider1;
+        }
+    }
+}
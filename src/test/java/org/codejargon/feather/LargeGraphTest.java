@@ -0,0 +1,146 @@
+package org.codejargon.feather;
+
+import dev.mccue.feather.DependencyInjector;
+import dev.mccue.feather.FeatherException;
+import dev.mccue.feather.Key;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Synthetic graphs of up to 10,000 singletons, each depending on the next two, so the graph is as deep as it is
+ * large. Building and first provisioning must scale roughly linearly: quadrupling the nodes may take at most a
+ * few times the quadrupled time, far from the sixteenfold of a quadratic algorithm.
+ */
+public class LargeGraphTest {
+    private static final int NODES = 10_000;
+
+    @Test
+    public void validatedBuildScalesLinearly() {
+        assertLinear(nodes -> () -> graph(nodes).validate(node(0)).build());
+    }
+
+    @Test
+    public void firstProvisionScalesLinearly() {
+        assertLinear(nodes -> () -> onDeepStack(() -> graph(nodes).build().instance(node(0))));
+    }
+
+    @Test
+    public void deepGraphProvided() {
+        Node root = onDeepStack(() -> graph(NODES).build().instance(node(0)));
+        assertEquals(NODES, root.size);
+    }
+
+    @Test
+    public void eagerBuildScalesLinearly() {
+        assertLinear(nodes -> () -> graph(nodes).eager().build());
+    }
+
+    @Test
+    public void deepGraphConstructedEagerly() {
+        DependencyInjector injector = graph(NODES).eager().build();
+        assertEquals(NODES, injector.instance(node(0)).size);
+    }
+
+    @Test
+    public void deepCycleDetected() {
+        DependencyInjector.Builder builder = graph(NODES, node(0));
+        FeatherException failure = onDeepStack(() -> {
+            try {
+                builder.build().instance(node(0));
+                return null;
+            } catch (FeatherException e) {
+                return e;
+            }
+        });
+        // each binding the failure propagates through adds its context
+        while (failure.getCause() instanceof FeatherException cause) {
+            failure = cause;
+        }
+        assertTrue(failure.getMessage(), failure.getMessage().startsWith("Circular dependency: " + node(0) + " -> " + node(1)));
+    }
+
+    private static void assertLinear(IntFunction<Runnable> graphOfSize) {
+        // warm up, so the first measurement isn't dominated by class loading and the JIT
+        time(graphOfSize.apply(NODES));
+        long quarter = time(graphOfSize.apply(NODES / 4));
+        long full = time(graphOfSize.apply(NODES));
+        assertTrue(String.format("%d nodes took %d us, %d took %d us", NODES / 4, quarter / 1000, NODES, full / 1000), full < 10 * quarter);
+    }
+
+    /**
+     * @return the fastest of a few runs
+     */
+    private static long time(Runnable run) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 5; ++i) {
+            long start = System.nanoTime();
+            run.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    /**
+     * @return a builder binding nodes 0 to {@code nodes - 1}, each depending on the next two that exist
+     */
+    private static DependencyInjector.Builder graph(int nodes) {
+        DependencyInjector.Builder builder = graph(nodes - 1, node(nodes - 1));
+        builder.singleton(node(nodes - 1), i -> new Node(null, null));
+        return builder;
+    }
+
+    /**
+     * @return a builder binding nodes 0 to {@code nodes - 1}, each depending on the next two, the last one on last
+     */
+    private static DependencyInjector.Builder graph(int nodes, Key<Node> last) {
+        DependencyInjector.Builder builder = DependencyInjector.builder();
+        for (int i = 0; i < nodes - 1; ++i) {
+            builder.singleton(node(i), node(i + 1), i + 2 < nodes ? node(i + 2) : last, Node::new);
+        }
+        builder.singleton(node(nodes - 1), last, next -> new Node(next, null));
+        return builder;
+    }
+
+    private static Key<Node> node(int i) {
+        return Key.of(Node.class, "node" + i);
+    }
+
+    /**
+     * Provisioning recurses once per node, more deeply than a default thread stack allows
+     */
+    private static <T> T onDeepStack(Supplier<T> supplier) {
+        AtomicReference<T> result = new AtomicReference<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread thread = new Thread(null, () -> {
+            try {
+                result.set(supplier.get());
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        }, "deep", 1L << 30);
+        thread.start();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+        return result.get();
+    }
+
+    public static class Node {
+        private final int size;
+
+        public Node(Node next, Node after) {
+            this.size = next == null ? 1 : next.size + 1;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package org.codejargon.feather;
+
+import dev.mccue.feather.DependencyInjector;
+import dev.mccue.feather.Feather;
+import dev.mccue.feather.FeatherException;
+import dev.mccue.feather.Key;
+import dev.mccue.feather.Lazy;
+import org.junit.Test;
+
+import jakarta.inject.Inject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class LazyInjectionTest {
+    @Test
+    public void constructedOnFirstUse() {
+        Expensive.count.set(0);
+        Handler handler = Feather.with().instance(Handler.class);
+        assertEquals(0, Expensive.count.get());
+        Expensive expensive = handler.expensive.get();
+        assertSame(expensive, handler.expensive.get());
+        assertEquals(1, Expensive.count.get());
+    }
+
+    @Test
+    public void eachInjectionGetsItsOwnLazy() {
+        Feather feather = Feather.with();
+        Handler first = feather.instance(Handler.class);
+        Handler second = feather.instance(Handler.class);
+        assertNotSame(first.expensive.get(), second.expensive.get());
+    }
+
+    @Test
+    public void fieldInjection() {
+        Expensive.count.set(0);
+        Fields fields = new Fields();
+        Feather.with().injectFields(fields);
+        assertEquals(0, Expensive.count.get());
+        assertNotNull(fields.expensive.get());
+    }
+
+    @Test
+    public void concurrentCallsConstructOnce() throws InterruptedException {
+        Expensive.count.set(0);
+        Handler handler = Feather.with().instance(Handler.class);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        List<Expensive> seen = new ArrayList<>();
+        for (int i = 0; i < 8; ++i) {
+            threads.add(Thread.startVirtualThread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                Expensive expensive = handler.expensive.get();
+                synchronized (seen) {
+                    seen.add(expensive);
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(1, Expensive.count.get());
+        for (Expensive expensive : seen) {
+            assertSame(seen.get(0), expensive);
+        }
+    }
+
+    @Test
+    public void breaksCycles() {
+        Cyclic cyclic = Feather.with().instance(Cyclic.class);
+        assertNotNull(cyclic.back.get().cyclic);
+    }
+
+    @Test(expected = FeatherException.class)
+    public void lazyDependenciesValidated() {
+        DependencyInjector.builder()
+                .validate(Key.of(NeedsUnbindable.class))
+                .build();
+    }
+
+    public static class Expensive {
+        static final AtomicInteger count = new AtomicInteger();
+
+        public Expensive() {
+            count.incrementAndGet();
+        }
+    }
+
+    public static class Handler {
+        private final Lazy<Expensive> expensive;
+
+        @Inject
+        public Handler(Lazy<Expensive> expensive) {
+            this.expensive = expensive;
+        }
+    }
+
+    public static class Fields {
+        @Inject
+        Lazy<Expensive> expensive;
+    }
+
+    public static class Cyclic {
+        private final Lazy<Back> back;
+
+        @Inject
+        public Cyclic(Lazy<Back> back) {
+            this.back = back;
+        }
+    }
+
+    public static class Back {
+        private final Cyclic cyclic;
+
+        @Inject
+        public Back(Cyclic cyclic) {
+            this.cyclic = cyclic;
+        }
+    }
+
+    public static class Unbindable {
+        Unbindable(String unused) {
+        }
+    }
+
+    public static class NeedsUnbindable {
+        @Inject
+        public NeedsUnbindable(Lazy<Unbindable> unbindable) {
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package org.codejargon.feather;
+
+import dev.mccue.feather.DependencyInjector;
+import dev.mccue.feather.FeatherException;
+import dev.mccue.feather.IntoSet;
+import dev.mccue.feather.Key;
+import dev.mccue.feather.Provides;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ManyModulesTest {
+    private static final int MODULES = 200;
+
+    @Test
+    public void mergedInModuleOrder() {
+        DependencyInjector.Builder builder = DependencyInjector.builder();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < MODULES; ++i) {
+            builder.module(i % 2 == 0 ? new EvenModule(i) : new OddModule(i));
+            expected.add(i);
+        }
+        assertEquals(expected, new ArrayList<>(builder.build().instance(Key.setOf(Integer.class))));
+    }
+
+    @Test
+    public void duplicatesReportedLikeSequentialScanning() {
+        for (int attempt = 0; attempt < 10; ++attempt) {
+            DependencyInjector.Builder builder = DependencyInjector.builder();
+            for (int i = 0; i < MODULES; ++i) {
+                builder.module(i == 100 ? new StringModule() : i == 150 ? new OtherStringModule() : new EvenModule(i));
+            }
+            try {
+                builder.build();
+                fail();
+            } catch (FeatherException e) {
+                assertEquals(String.format("%s has multiple providers, module %s", Key.of(String.class), OtherStringModule.class), e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void firstBrokenModuleReported() {
+        for (int attempt = 0; attempt < 10; ++attempt) {
+            DependencyInjector.Builder builder = DependencyInjector.builder();
+            for (int i = 0; i < MODULES; ++i) {
+                builder.module(i == 100 ? new BrokenModule() : i == 150 ? new OtherBrokenModule() : new EvenModule(i));
+            }
+            try {
+                builder.build();
+                fail();
+            } catch (FeatherException e) {
+                assertTrue(e.getMessage(), e.getMessage().contains(BrokenModule.class.getName()));
+            }
+        }
+    }
+
+    public static class EvenModule {
+        private final int index;
+
+        EvenModule(int index) {
+            this.index = index;
+        }
+
+        @Provides
+        @IntoSet
+        Integer index() {
+            return index;
+        }
+    }
+
+    public static class OddModule extends EvenModule {
+        OddModule(int index) {
+            super(index);
+        }
+    }
+
+    public static class StringModule {
+        @Provides
+        String string() {
+            return "first";
+        }
+    }
+
+    public static class OtherStringModule {
+        @Provides
+        String string() {
+            return "second";
+        }
+    }
+
+    public static class BrokenModule {
+        @Provides
+        @SuppressWarnings("rawtypes")
+        CompletableFuture broken() {
+            return CompletableFuture.completedFuture("broken");
+        }
+    }
+
+    public static class OtherBrokenModule {
+        @Provides
+        @SuppressWarnings("rawtypes")
+        CompletableFuture broken() {
+            return CompletableFuture.completedFuture("broken");
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.codejargon.feather;
+
+import dev.mccue.feather.Feather;
+import dev.mccue.feather.Provides;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class MetadataCacheTest {
+    @Test
+    public void injectorsShareMetadata() {
+        for (int i = 0; i < 100; ++i) {
+            assertEquals("module", Feather.with(new Module()).instance(String.class));
+        }
+    }
+
+    @Test
+    public void modulesUnloadable() throws Exception {
+        WeakReference<ClassLoader> loader = useModuleInIsolatedLoader();
+        for (int i = 0; i < 50 && loader.get() != null; ++i) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(loader.get());
+    }
+
+    private static WeakReference<ClassLoader> useModuleInIsolatedLoader() throws Exception {
+        ClassLoader loader = new IsolatingClassLoader(Module.class.getName());
+        Object module = loader.loadClass(Module.class.getName()).getDeclaredConstructor().newInstance();
+        assertEquals("module", Feather.with(module).instance(String.class));
+        return new WeakReference<>(loader);
+    }
+
+    public static class Module {
+        @Provides
+        String name() {
+            return "module";
+        }
+    }
+
+    /**
+     * Defines the named class itself, delegating everything else to its parent
+     */
+    private static final class IsolatingClassLoader extends ClassLoader {
+        private final String isolated;
+
+        private IsolatingClassLoader(String isolated) {
+            super(MetadataCacheTest.class.getClassLoader());
+            this.isolated = isolated;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(isolated)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                        byte[] bytes = in.readAllBytes();
+                        loaded = defineClass(name, bytes, 0, bytes.length);
+                    } catch (IOException e) {
+                        throw new ClassNotFoundException(name, e);
+                    }
+                }
+                return loaded;
+            }
+        }
+    }
+}
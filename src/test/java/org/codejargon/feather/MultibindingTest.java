@@ -0,0 +1,169 @@
+package org.codejargon.feather;
+
+import dev.mccue.feather.DependencyInjector;
+import dev.mccue.feather.Feather;
+import dev.mccue.feather.FeatherException;
+import dev.mccue.feather.IntoMap;
+import dev.mccue.feather.IntoSet;
+import dev.mccue.feather.Key;
+import dev.mccue.feather.Provides;
+import org.junit.Test;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MultibindingTest {
+    @Test
+    public void setContributedByModules() {
+        Feather feather = Feather.with(new JsonModule(), new XmlModule());
+        Set<Codec> codecs = feather.instance(Key.setOf(Codec.class));
+        assertEquals(2, codecs.size());
+        assertEquals(codecs, feather.instance(Registry.class).codecs);
+    }
+
+    @Test
+    public void mapContributedByModules() {
+        Feather feather = Feather.with(new JsonModule(), new XmlModule());
+        Map<String, Codec> codecs = feather.instance(Key.mapOf(Codec.class));
+        assertEquals("json", codecs.get("json").name);
+        assertEquals("xml", codecs.get("xml").name);
+        assertEquals(List.of("json", "xml"), List.copyOf(codecs.keySet()));
+    }
+
+    @Test
+    public void singletonContributionsShareCollection() {
+        Feather feather = Feather.with(new JsonModule(), new XmlModule());
+        assertSame(feather.instance(Key.setOf(Codec.class)), feather.instance(Key.setOf(Codec.class)));
+    }
+
+    @Test
+    public void unscopedContributionsProvidedEachTime() {
+        Feather feather = Feather.with(new HandlerModule());
+        assertNotSame(feather.instance(Key.setOf(Handler.class)), feather.instance(Key.setOf(Handler.class)));
+        assertEquals(2, feather.instance(Key.setOf(Handler.class, "handlers")).size());
+    }
+
+    @Test
+    public void declaredWithoutContributionsInjectsEmptyCollections() {
+        DependencyInjector injector = DependencyInjector.builder()
+                .multibinding(Key.setOf(Codec.class))
+                .multibinding(Key.mapOf(Codec.class))
+                .build();
+        assertTrue(injector.instance(Registry.class).codecs.isEmpty());
+        assertTrue(injector.instance(Key.mapOf(Codec.class)).isEmpty());
+    }
+
+    @Test
+    public void declaredWithContributionsInjectsThem() {
+        DependencyInjector injector = DependencyInjector.builder()
+                .module(new JsonModule())
+                .multibinding(Key.setOf(Codec.class))
+                .build();
+        assertEquals(1, injector.instance(Key.setOf(Codec.class)).size());
+    }
+
+    @Test(expected = FeatherException.class)
+    public void undeclaredWithoutContributionsFails() {
+        Feather.with().instance(Registry.class);
+    }
+
+    @Test(expected = FeatherException.class)
+    public void onlyCollectionsDeclared() {
+        DependencyInjector.builder().multibinding(Key.of(Codec.class));
+    }
+
+    @Test
+    public void childExtendsParentContributions() {
+        Feather parent = Feather.with(new JsonModule());
+        Set<Codec> codecs = parent.child(new XmlModule()).instance(Key.setOf(Codec.class));
+        assertEquals(2, codecs.size());
+        assertEquals(1, parent.instance(Key.setOf(Codec.class)).size());
+    }
+
+    @Test(expected = FeatherException.class)
+    public void duplicateMapKey() {
+        Feather.with(new JsonModule(), new JsonModule());
+    }
+
+    public static class Codec {
+        private final String name;
+
+        Codec(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class Handler {
+    }
+
+    public static class Registry {
+        private final Set<Codec> codecs;
+
+        @Inject
+        public Registry(Set<Codec> codecs) {
+            this.codecs = codecs;
+        }
+    }
+
+    public static class JsonModule {
+        @Provides
+        @Singleton
+        @IntoSet
+        Codec jsonCodec() {
+            return new Codec("json");
+        }
+
+        @Provides
+        @IntoMap("json")
+        Codec namedJsonCodec() {
+            return new Codec("json");
+        }
+    }
+
+    public static class XmlModule {
+        @Provides
+        @Singleton
+        @IntoSet
+        Codec xmlCodec() {
+            return new Codec("xml");
+        }
+
+        @Provides
+        @IntoMap("xml")
+        Codec namedXmlCodec() {
+            return new Codec("xml");
+        }
+    }
+
+    public static class HandlerModule {
+        @Provides
+        @IntoSet
+        Handler first() {
+            return new Handler();
+        }
+
+        @Provides
+        @Named("handlers")
+        @IntoSet
+        Handler second() {
+            return new Handler();
+        }
+
+        @Provides
+        @Named("handlers")
+        @IntoSet
+        Handler third() {
+            return new Handler();
+        }
+    }
+}
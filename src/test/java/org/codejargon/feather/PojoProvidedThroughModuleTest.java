@@ -20,6 +20,12 @@ public class PojoProvidedThroughModuleTest {
         assertNotNull(feather.instance(Pojo.class));
     }
 
+    @Test
+    public void pojoProvidedByStaticMethod() {
+        Feather feather = Feather.with(new StaticModule());
+        assertNotNull(feather.instance(Pojo.class));
+    }
+
     public static class Module {
         @Provides
         Pojo pojo() {
@@ -27,6 +33,13 @@ public class PojoProvidedThroughModuleTest {
         }
     }
 
+    public static class StaticModule {
+        @Provides
+        static Pojo pojo() {
+            return new Pojo("foo");
+        }
+    }
+
     public static class Pojo {
         private final String foo;
 
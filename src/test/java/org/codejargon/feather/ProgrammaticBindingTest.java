@@ -0,0 +1,120 @@
+package org.codejargon.feather;
+
+import dev.mccue.feather.DependencyInjector;
+import dev.mccue.feather.FeatherException;
+import dev.mccue.feather.Key;
+import dev.mccue.feather.Provides;
+import org.junit.Test;
+
+import jakarta.inject.Inject;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class ProgrammaticBindingTest {
+    @Test
+    public void bound() {
+        DependencyInjector injector = DependencyInjector.builder()
+                .bind(Key.of(String.class, "greeting"), i -> "hi")
+                .bind(Key.of(Greeter.class), i -> new Greeter(i.instance(Key.of(String.class, "greeting"))))
+                .build();
+        assertEquals("hi", injector.instance(Greeter.class).greeting);
+        assertNotSame(injector.instance(Greeter.class), injector.instance(Greeter.class));
+    }
+
+    @Test
+    public void boundSingleton() {
+        DependencyInjector injector = DependencyInjector.builder()
+                .singleton(Key.of(Greeter.class), i -> new Greeter("hi"))
+                .build();
+        assertSame(injector.instance(Greeter.class), injector.instance(Greeter.class));
+    }
+
+    @Test
+    public void injectedIntoConstructors() {
+        DependencyInjector injector = DependencyInjector.builder()
+                .bind(Key.of(String.class), i -> "hi")
+                .build();
+        assertEquals("hi", injector.instance(Greeter.class).greeting);
+    }
+
+    @Test
+    public void typedDependencies() {
+        DependencyInjector injector = DependencyInjector.builder()
+                .bind(Key.of(String.class, "greeting"), i -> "hi")
+                .bind(Key.of(String.class, "name"), i -> "feather")
+                .bind(Key.of(Greeter.class), Key.of(String.class, "greeting"), Greeter::new)
+                .bind(Key.of(String.class), Key.of(Greeter.class), Key.of(String.class, "name"), (greeter, name) -> greeter.greeting + " " + name)
+                .build();
+        assertEquals("hi", injector.instance(Greeter.class).greeting);
+        assertEquals("hi feather", injector.instance(String.class));
+    }
+
+    @Test
+    public void typedSingletons() {
+        DependencyInjector injector = DependencyInjector.builder()
+                .singleton(Key.of(Greeter.class), Key.of(String.class, "greeting"), Greeter::new)
+                .singleton(Key.of(Pair.class), Key.of(Greeter.class), Key.of(Greeter.class), Pair::new)
+                .bind(Key.of(String.class, "greeting"), i -> "hi")
+                .build();
+        Pair pair = injector.instance(Pair.class);
+        assertSame(pair, injector.instance(Pair.class));
+        assertSame(pair.first, pair.second);
+    }
+
+    @Test(expected = FeatherException.class)
+    public void typedDependenciesValidated() {
+        DependencyInjector.builder()
+                .bind(Key.of(Greeter.class), Key.of(Unbindable.class), unbindable -> new Greeter("hi"))
+                .validate()
+                .build();
+    }
+
+    @Test(expected = FeatherException.class)
+    public void typedDependencyCycleDetected() {
+        DependencyInjector.builder()
+                .bind(Key.of(String.class), Key.of(Greeter.class), greeter -> greeter.greeting)
+                .build()
+                .instance(String.class);
+    }
+
+    @Test(expected = FeatherException.class)
+    public void conflictsWithModule() {
+        DependencyInjector.builder()
+                .module(new Module())
+                .bind(Key.of(String.class), i -> "hello")
+                .build();
+    }
+
+    public static class Module {
+        @Provides
+        String greeting() {
+            return "hi";
+        }
+    }
+
+    public static class Pair {
+        private final Greeter first;
+        private final Greeter second;
+
+        public Pair(Greeter first, Greeter second) {
+            this.first = first;
+            this.second = second;
+        }
+    }
+
+    public static class Unbindable {
+        Unbindable(String unused) {
+        }
+    }
+
+    public static class Greeter {
+        private final String greeting;
+
+        @Inject
+        public Greeter(String greeting) {
+            this.greeting = greeting;
+        }
+    }
+}
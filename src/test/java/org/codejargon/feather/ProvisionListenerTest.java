@@ -0,0 +1,129 @@
+package org.codejargon.feather;
+
+import dev.mccue.feather.DependencyInjector;
+import dev.mccue.feather.Key;
+import dev.mccue.feather.ProvisionListener;
+import dev.mccue.feather.Provides;
+import org.junit.Test;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ProvisionListenerTest {
+    @Test
+    public void provisionsCounted() {
+        Counting counting = new Counting();
+        DependencyInjector injector = DependencyInjector.builder()
+                .module(new Module())
+                .listener(counting)
+                .build();
+        for (int i = 0; i < 3; ++i) {
+            injector.instance(Unscoped.class);
+        }
+        assertEquals(3, counting.count(counting.provisioned, Key.of(Unscoped.class)));
+        assertEquals(3, counting.count(counting.provisioned, Key.of(String.class)));
+        assertEquals(1, counting.count(counting.singletons, Key.of(Shared.class)));
+        assertEquals(1, counting.count(counting.created, Key.of(Unscoped.class)));
+        assertEquals(1, counting.count(counting.created, Key.of(Shared.class)));
+        assertEquals(0, counting.count(counting.created, Key.of(String.class)));
+    }
+
+    @Test
+    public void flightRecorderEvents() throws Exception {
+        Path file = Files.createTempFile("feather", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("dev.mccue.feather.Provisioned");
+            recording.enable("dev.mccue.feather.SingletonInitialized");
+            recording.enable("dev.mccue.feather.BindingCreated");
+            recording.start();
+            DependencyInjector injector = DependencyInjector.builder()
+                    .module(new Module())
+                    .listener(ProvisionListener.flightRecorder())
+                    .build();
+            injector.instance(Unscoped.class);
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("dev.mccue.feather.Provisioned")
+                && e.getString("key").equals(Unscoped.class.getName())));
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("dev.mccue.feather.SingletonInitialized")
+                && e.getString("key").equals(Shared.class.getName())));
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("dev.mccue.feather.BindingCreated")));
+    }
+
+    @Test
+    public void listenerProvidesOnBindingCreated() {
+        AtomicReference<DependencyInjector> injector = new AtomicReference<>();
+        List<Object> provided = new CopyOnWriteArrayList<>();
+        injector.set(DependencyInjector.builder()
+                .listener(new ProvisionListener() {
+                    @Override
+                    public void bindingCreated(Key<?> key, long nanos) {
+                        provided.add(injector.get().instance(key));
+                    }
+                })
+                .build());
+        injector.get().instance(Unscoped.class);
+        assertEquals(3, provided.size());
+    }
+
+    static class Counting implements ProvisionListener {
+        final Map<Key<?>, AtomicInteger> created = new ConcurrentHashMap<>();
+        final Map<Key<?>, AtomicInteger> provisioned = new ConcurrentHashMap<>();
+        final Map<Key<?>, AtomicInteger> singletons = new ConcurrentHashMap<>();
+
+        @Override
+        public void bindingCreated(Key<?> key, long nanos) {
+            created.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+        }
+
+        @Override
+        public void provisioned(Key<?> key, long nanos) {
+            provisioned.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+        }
+
+        @Override
+        public void singletonInitialized(Key<?> key, long nanos) {
+            singletons.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+        }
+
+        int count(Map<Key<?>, AtomicInteger> counts, Key<?> key) {
+            AtomicInteger count = counts.get(key);
+            return count != null ? count.get() : 0;
+        }
+    }
+
+    public static class Module {
+        @Provides
+        String greeting() {
+            return "hi";
+        }
+    }
+
+    @Singleton
+    public static class Shared {
+    }
+
+    public static class Unscoped {
+        @Inject
+        public Unscoped(Shared shared, String greeting) {
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package org.codejargon.feather;
+
+import dev.mccue.feather.DependencyInjector;
+import dev.mccue.feather.Feather;
+import dev.mccue.feather.FeatherException;
+import dev.mccue.feather.IntoSet;
+import dev.mccue.feather.Key;
+import dev.mccue.feather.Provides;
+import dev.mccue.feather.RequestScope;
+import dev.mccue.feather.Scope;
+import org.junit.Test;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class ScopeTest {
+    @Test
+    public void threadScope() throws Exception {
+        DependencyInjector injector = DependencyInjector.builder()
+                .scope(PerThread.class, Scope.thread())
+                .build();
+        Parser parser = injector.instance(Parser.class);
+        assertSame(parser, injector.instance(Parser.class));
+        assertNotSame(parser, CompletableFuture.supplyAsync(() -> injector.instance(Parser.class)).get());
+    }
+
+    @Test
+    public void requestScope() {
+        RequestScope scope = new RequestScope();
+        DependencyInjector injector = DependencyInjector.builder()
+                .scope(PerRequest.class, scope)
+                .build();
+        Cache first;
+        try (RequestScope.Request request = scope.enter()) {
+            first = injector.instance(Cache.class);
+            assertSame(first, injector.instance(Handler.class).cache);
+        }
+        try (RequestScope.Request request = scope.enter()) {
+            assertNotSame(first, injector.instance(Cache.class));
+        }
+    }
+
+    @Test
+    public void nestedRequests() {
+        RequestScope scope = new RequestScope();
+        DependencyInjector injector = DependencyInjector.builder()
+                .scope(PerRequest.class, scope)
+                .build();
+        try (RequestScope.Request outer = scope.enter()) {
+            Cache cache = injector.instance(Cache.class);
+            try (RequestScope.Request inner = scope.enter()) {
+                assertNotSame(cache, injector.instance(Cache.class));
+            }
+            assertSame(cache, injector.instance(Cache.class));
+        }
+    }
+
+    @Test(expected = FeatherException.class)
+    public void outsideOfRequest() {
+        DependencyInjector.builder()
+                .scope(PerRequest.class, new RequestScope())
+                .build()
+                .instance(Cache.class);
+    }
+
+    @Test
+    public void providerMethodScoped() {
+        RequestScope scope = new RequestScope();
+        DependencyInjector injector = DependencyInjector.builder()
+                .module(new Module())
+                .scope(PerRequest.class, scope)
+                .build();
+        try (RequestScope.Request request = scope.enter()) {
+            assertSame(injector.instance(StringBuilder.class), injector.instance(StringBuilder.class));
+        }
+    }
+
+    @Test
+    public void childInheritsScopes() {
+        RequestScope scope = new RequestScope();
+        Feather parent = (Feather) DependencyInjector.builder()
+                .scope(PerRequest.class, scope)
+                .build();
+        DependencyInjector child = parent.child();
+        try (RequestScope.Request request = scope.enter()) {
+            assertSame(child.instance(Cache.class), child.instance(Cache.class));
+        }
+    }
+
+    @Test
+    public void siblingChildrenScopedApart() {
+        RequestScope scope = new RequestScope();
+        Feather parent = (Feather) DependencyInjector.builder()
+                .scope(PerRequest.class, scope)
+                .build();
+        try (RequestScope.Request request = scope.enter()) {
+            assertEquals("a", parent.child(new TenantModule("a")).instance(Tenant.class).name);
+            assertEquals("b", parent.child(new TenantModule("b")).instance(Tenant.class).name);
+        }
+    }
+
+    @Test
+    public void injectorsSharingScopeScopedApart() {
+        RequestScope scope = new RequestScope();
+        DependencyInjector a = DependencyInjector.builder().module(new TenantModule("a")).scope(PerRequest.class, scope).build();
+        DependencyInjector b = DependencyInjector.builder().module(new TenantModule("b")).scope(PerRequest.class, scope).build();
+        try (RequestScope.Request request = scope.enter()) {
+            assertEquals("a", a.instance(Tenant.class).name);
+            assertEquals("b", b.instance(Tenant.class).name);
+        }
+    }
+
+    @Test
+    public void slotsOfCollectedChildrenReused() throws Exception {
+        RequestScope scope = new RequestScope();
+        Feather parent = (Feather) DependencyInjector.builder()
+                .scope(PerRequest.class, scope)
+                .build();
+        try (RequestScope.Request request = scope.enter()) {
+            for (int i = 0; i < 100; ++i) {
+                String name = Integer.toString(i);
+                assertEquals(name, parent.child(new TenantModule(name)).instance(Tenant.class).name);
+                System.gc();
+            }
+        }
+    }
+
+    @Test
+    public void contributionsScopedApart() {
+        RequestScope scope = new RequestScope();
+        DependencyInjector injector = DependencyInjector.builder()
+                .module(new ContributingModule())
+                .scope(PerRequest.class, scope)
+                .build();
+        try (RequestScope.Request request = scope.enter()) {
+            Set<StringBuilder> buffers = injector.instance(Key.setOf(StringBuilder.class));
+            assertEquals(2, buffers.size());
+            assertEquals(buffers, injector.instance(Key.setOf(StringBuilder.class)));
+        }
+    }
+
+    @Test
+    public void scopeLooksUpBindingItScopes() {
+        Feather[] injector = new Feather[1];
+        Scope scope = new Scope() {
+            @Override
+            public <T> Provider<T> scope(Key<T> key, Provider<T> unscoped) {
+                injector[0].provider(key);
+                return unscoped;
+            }
+        };
+        injector[0] = (Feather) DependencyInjector.builder()
+                .scope(PerRequest.class, scope)
+                .build();
+        assertNotNull(injector[0].instance(Cache.class));
+    }
+
+    @Test(expected = FeatherException.class)
+    public void unboundScope() {
+        Feather.with().instance(Cache.class);
+    }
+
+    @Test(expected = FeatherException.class)
+    public void notAScope() {
+        DependencyInjector.builder().scope(Retention.class, Scope.thread());
+    }
+
+    @jakarta.inject.Scope
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface PerThread {
+    }
+
+    @jakarta.inject.Scope
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface PerRequest {
+    }
+
+    @PerThread
+    public static class Parser {
+    }
+
+    @PerRequest
+    public static class Cache {
+    }
+
+    public static class Handler {
+        private final Cache cache;
+
+        @Inject
+        public Handler(Cache cache) {
+            this.cache = cache;
+        }
+    }
+
+    public static class Module {
+        @Provides
+        @PerRequest
+        StringBuilder buffer() {
+            return new StringBuilder();
+        }
+    }
+
+    public static class Tenant {
+        private final String name;
+
+        Tenant(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class TenantModule {
+        private final String name;
+
+        TenantModule(String name) {
+            this.name = name;
+        }
+
+        @Provides
+        @PerRequest
+        Tenant tenant() {
+            return new Tenant(name);
+        }
+    }
+
+    public static class ContributingModule {
+        @Provides
+        @IntoSet
+        @PerRequest
+        StringBuilder first() {
+            return new StringBuilder("first");
+        }
+
+        @Provides
+        @IntoSet
+        @PerRequest
+        StringBuilder second() {
+            return new StringBuilder("second");
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package org.codejargon.feather;
+
+import dev.mccue.feather.Feather;
+import dev.mccue.feather.FeatherException;
+import dev.mccue.feather.Provides;
+import org.junit.Test;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class SingletonConcurrencyTest {
+    private static final int THREADS = 5_000;
+
+    @Test
+    public void singletonGraphConstructedOnceUnderVirtualThreads() throws Exception {
+        Counters.reset();
+        Feather feather = Feather.with(new Module());
+        Class<?>[] roots = {Root.class, Left.class, Right.class, Middle.class, Leaf.class, Config.class};
+        for (Class<?> root : roots) {
+            feather.provider(root);
+        }
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < THREADS; ++i) {
+                Class<?> root = roots[i % roots.length];
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return feather.instance(root);
+                }));
+            }
+            start.countDown();
+            for (int i = 0; i < THREADS; ++i) {
+                assertSame(feather.instance(roots[i % roots.length]), results.get(i).get());
+            }
+        }
+        Root root = feather.instance(Root.class);
+        assertSame(root.left.leaf, root.right.leaf);
+        assertSame(root.middle.config, root.left.leaf.config);
+        assertEquals(1, Counters.root.get());
+        assertEquals(1, Counters.left.get());
+        assertEquals(1, Counters.right.get());
+        assertEquals(1, Counters.middle.get());
+        assertEquals(1, Counters.leaf.get());
+        assertEquals(1, Counters.config.get());
+    }
+
+    @Test(expected = FeatherException.class)
+    public void singletonRequestedWhileBeingConstructed() {
+        Feather.with().instance(SelfReferencing.class);
+    }
+
+    static class Counters {
+        static final AtomicInteger root = new AtomicInteger();
+        static final AtomicInteger left = new AtomicInteger();
+        static final AtomicInteger right = new AtomicInteger();
+        static final AtomicInteger middle = new AtomicInteger();
+        static final AtomicInteger leaf = new AtomicInteger();
+        static final AtomicInteger config = new AtomicInteger();
+
+        static void reset() {
+            root.set(0);
+            left.set(0);
+            right.set(0);
+            middle.set(0);
+            leaf.set(0);
+            config.set(0);
+        }
+    }
+
+    public static class Config {
+    }
+
+    public static class Module {
+        @Provides
+        @Singleton
+        Config config() {
+            Counters.config.incrementAndGet();
+            return new Config();
+        }
+    }
+
+    @Singleton
+    public static class Leaf {
+        private final Config config;
+
+        @Inject
+        public Leaf(Config config) {
+            this.config = config;
+            Counters.leaf.incrementAndGet();
+        }
+    }
+
+    @Singleton
+    public static class Left {
+        private final Leaf leaf;
+
+        @Inject
+        public Left(Leaf leaf) {
+            this.leaf = leaf;
+            Counters.left.incrementAndGet();
+        }
+    }
+
+    @Singleton
+    public static class Right {
+        private final Leaf leaf;
+
+        @Inject
+        public Right(Leaf leaf) {
+            this.leaf = leaf;
+            Counters.right.incrementAndGet();
+        }
+    }
+
+    @Singleton
+    public static class Middle {
+        private final Config config;
+
+        @Inject
+        public Middle(Config config) {
+            this.config = config;
+            Counters.middle.incrementAndGet();
+        }
+    }
+
+    @Singleton
+    public static class Root {
+        private final Left left;
+        private final Right right;
+        private final Middle middle;
+
+        @Inject
+        public Root(Left left, Right right, Middle middle) {
+            this.left = left;
+            this.right = right;
+            this.middle = middle;
+            Counters.root.incrementAndGet();
+        }
+    }
+
+    @Singleton
+    public static class SelfReferencing {
+        @Inject
+        public SelfReferencing(Provider<SelfReferencing> self) {
+            self.get();
+        }
+    }
+}
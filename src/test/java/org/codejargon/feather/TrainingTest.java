@@ -0,0 +1,121 @@
+package org.codejargon.feather;
+
+import dev.mccue.feather.DependencyInjector;
+import dev.mccue.feather.FeatherException;
+import dev.mccue.feather.Key;
+import dev.mccue.feather.ProvisionListener;
+import dev.mccue.feather.Provides;
+import dev.mccue.feather.TypeLiteral;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TrainingTest {
+    private Path classList;
+    private Path keyList;
+
+    @Before
+    public void createFiles() throws IOException {
+        classList = Files.createTempFile("feather", ".classlist");
+        keyList = Files.createTempFile("feather", ".keys");
+    }
+
+    @After
+    public void deleteFiles() throws IOException {
+        Files.delete(classList);
+        Files.delete(keyList);
+    }
+
+    @Test
+    public void graphRecorded() throws IOException {
+        DependencyInjector.builder()
+                .module(new Module())
+                .train(classList, keyList, Key.of(Root.class))
+                .build();
+        List<String> classes = Files.readAllLines(classList);
+        assertTrue(classes.contains("org/codejargon/feather/TrainingTest$Module"));
+        assertTrue(classes.contains("org/codejargon/feather/TrainingTest$Root"));
+        assertTrue(classes.contains("org/codejargon/feather/TrainingTest$Leaf"));
+        assertTrue(classes.contains("java/util/Map"));
+        assertTrue(classes.contains("jakarta/inject/Named"));
+        List<String> keys = Files.readAllLines(keyList);
+        assertTrue(keys.contains(Root.class.getName() + "\t-"));
+        assertTrue(keys.contains("java.util.Map<java.lang.String, java.util.List<? extends java.lang.Number>>\t=limits"));
+    }
+
+    @Test
+    public void replayLinksRecordedGraph() {
+        DependencyInjector.builder()
+                .module(new Module())
+                .train(classList, keyList, Key.of(Root.class))
+                .build();
+        List<Key<?>> created = new ArrayList<>();
+        DependencyInjector injector = DependencyInjector.builder()
+                .module(new Module())
+                .listener(new ProvisionListener() {
+                    @Override
+                    public void bindingCreated(Key<?> key, long nanos) {
+                        created.add(key);
+                    }
+                })
+                .replay(keyList)
+                .build();
+        assertTrue(created.contains(Key.of(Root.class)));
+        assertTrue(created.contains(Key.of(Leaf.class)));
+        int linked = created.size();
+        Root root = injector.instance(Root.class);
+        assertEquals(linked, created.size());
+        assertEquals(3, root.limits.get("max").get(0).intValue());
+    }
+
+    @Test
+    public void genericKeysReplayed() throws IOException {
+        Files.write(keyList, List.of("java.util.Map<java.lang.String, java.util.List<? extends java.lang.Number>>\t=limits"));
+        DependencyInjector injector = DependencyInjector.builder()
+                .module(new Module())
+                .replay(keyList)
+                .build();
+        assertEquals(3, injector.instance(Key.of(new TypeLiteral<Map<String, List<? extends Number>>>() {}, "limits")).get("max").get(0).intValue());
+    }
+
+    @Test(expected = FeatherException.class)
+    public void staleKeyListFailsBuild() throws IOException {
+        Files.write(keyList, List.of("org.codejargon.feather.TrainingTest$Removed\t-"));
+        DependencyInjector.builder()
+                .replay(keyList)
+                .build();
+    }
+
+    public static class Module {
+        @Provides
+        @Named("limits")
+        Map<String, List<? extends Number>> limits() {
+            return Map.of("max", List.of(3));
+        }
+    }
+
+    public static class Leaf {
+    }
+
+    public static class Root {
+        private final Map<String, List<? extends Number>> limits;
+
+        @Inject
+        public Root(Leaf leaf, @Named("limits") Map<String, List<? extends Number>> limits) {
+            this.limits = limits;
+        }
+    }
+}